@@ -1,6 +1,7 @@
 plugins {
     id("org.springframework.boot") version "3.3.0"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
@@ -18,14 +19,60 @@ repositories {
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("it.unimi.dsi:fastutil-core:8.5.13")
+    implementation("org.apache.lucene:lucene-core:9.11.1")
+    implementation("org.apache.lucene:lucene-queryparser:9.11.1")
+    implementation("org.apache.lucene:lucene-facet:9.11.1")
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok-mapstruct-binding:0.2.0")
     runtimeOnly("com.h2database:h2")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the throughput benchmarks tagged 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// JMH benchmarks live in src/jmh/java; run with `gradle jmh`, optionally narrowing with -PjmhIncludes=<regex>
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    profilers.add("gc")
+    jvmArgs.add("-Xmx3g")
+    resultFormat.set("TEXT")
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+// me.champeau.jmh 0.7.x still captures the Project at execution time
+tasks.matching { it.name == "jmh" || it.name == "jmhJar" }.configureEach {
+    notCompatibleWithConfigurationCache("me.champeau.jmh tasks reference the Project at execution time")
+}
@@ -0,0 +1,108 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.workload.AssigneeLoadTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention on {@link AssigneeLoadTracker} without Spring or a database: many threads auto-assigning from small
+ * random candidate pools, alone and mixed with committed task changes. Compare {@code lockStripes=1} (one global
+ * lock) with the default 64 stripes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssigneeLoadTrackerBenchmark {
+
+    private static final int ASSIGNEES = 1_000;
+    private static final int TASKS_PER_ASSIGNEE = 20;
+    private static final int POOL_SIZE = 10;
+    private static final int TASKS_PER_ORDER = 3;
+
+    @State(Scope.Benchmark)
+    public static class Tracker {
+        @Param({"1", "64"})
+        public int lockStripes;
+
+        AssigneeLoadTracker tracker;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            tracker = new AssigneeLoadTracker(null, lockStripes, 86_400_000L);
+            SplittableRandom random = new SplittableRandom(11L);
+            long now = System.currentTimeMillis();
+            List<TaskSnapshot> tasks = new ArrayList<>(ASSIGNEES * TASKS_PER_ASSIGNEE);
+            for (long id = 1; id <= (long) ASSIGNEES * TASKS_PER_ASSIGNEE; id++) {
+                tasks.add(new TaskSnapshot(id, 1L + random.nextInt(ASSIGNEES), TaskStatus.ASSIGNED,
+                        Priority.values()[random.nextInt(Priority.values().length)], now + random.nextLong(172_800_000L), 0L));
+            }
+            tracker.onTaskChanged(new TaskChangedEvent(List.of(), tasks));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+
+        List<Long> candidatePool() {
+            List<Long> pool = new ArrayList<>(POOL_SIZE);
+            for (int i = 0; i < POOL_SIZE; i++) {
+                pool.add(1L + random.nextInt(ASSIGNEES));
+            }
+            return pool;
+        }
+
+        TaskChangedEvent reassignment() {
+            long taskId = 1L + random.nextInt(ASSIGNEES * TASKS_PER_ASSIGNEE);
+            TaskSnapshot moved = new TaskSnapshot(taskId, 1L + random.nextInt(ASSIGNEES), TaskStatus.ASSIGNED,
+                    Priority.MEDIUM, System.currentTimeMillis() + random.nextLong(172_800_000L), null);
+            return new TaskChangedEvent(List.of(taskId), List.of(moved));
+        }
+    }
+
+    // One auto-assignment: pick + reserve, then the release that follows its commit
+    @Benchmark
+    @Threads(8)
+    public long autoAssign(Tracker state, Caller caller) {
+        AssigneeLoadTracker.Reservation reservation = state.tracker.reserve(caller.candidatePool(), TASKS_PER_ORDER);
+        state.tracker.release(reservation);
+        return reservation.assigneeId();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public long mixedAutoAssign(Tracker state, Caller caller) {
+        return autoAssign(state, caller);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void mixedTaskChanges(Tracker state, Caller caller) {
+        state.tracker.onTaskChanged(caller.reassignment());
+    }
+}
@@ -0,0 +1,90 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic tasks shared by the benchmarks. Tasks are spread over {@link #ASSIGNEE_COUNT} assignees
+ * and ORDER references with one row per order task type, with deadlines over a {@link #DEADLINE_SPREAD_MILLIS} range.
+ */
+final class TaskDataGenerator {
+
+    static final int ASSIGNEE_COUNT = 1_000;
+    static final long BASE_DEADLINE = 1_750_000_000_000L;
+    static final long DEADLINE_SPREAD_MILLIS = 90L * 24 * 60 * 60 * 1000;
+    static final List<Task> ORDER_TASKS = Task.getTasksByReferenceType(ReferenceType.ORDER);
+
+    private static final TaskStatus[] STATUSES = {
+            TaskStatus.ASSIGNED, TaskStatus.ASSIGNED, TaskStatus.STARTED, TaskStatus.COMPLETED, TaskStatus.CANCELLED
+    };
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private TaskDataGenerator() {
+    }
+
+    static TaskManagement task(long id, Random random) {
+        TaskManagement task = new TaskManagement();
+        task.setId(id);
+        task.setReferenceId(id / ORDER_TASKS.size());
+        task.setReferenceType(ReferenceType.ORDER);
+        task.setTask(ORDER_TASKS.get((int) (id % ORDER_TASKS.size())));
+        task.setDescription("Generated task " + id);
+        task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        task.setAssigneeId(1L + random.nextInt(ASSIGNEE_COUNT));
+        task.setTaskDeadlineTime(BASE_DEADLINE + (long) (random.nextDouble() * DEADLINE_SPREAD_MILLIS));
+        task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+        return task;
+    }
+
+    static List<TaskManagement> tasks(int count, long seed) {
+        Random random = new Random(seed);
+        List<TaskManagement> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tasks.add(task(i, random));
+        }
+        return tasks;
+    }
+
+    // Plain JDBC batches with explicit ids, then moves the sequence past them so the application can keep inserting
+    static void load(JdbcTemplate jdbcTemplate, int count, long seed) {
+        Random random = new Random(seed);
+        String sql = "INSERT INTO task_management (id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        for (int offset = 0; offset < count; offset += INSERT_BATCH_SIZE) {
+            int batchStart = offset;
+            int batchSize = Math.min(INSERT_BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    TaskManagement task = task(batchStart + i + 1, random);
+                    ps.setLong(1, task.getId());
+                    ps.setLong(2, task.getReferenceId());
+                    ps.setString(3, task.getReferenceType().name());
+                    ps.setString(4, task.getTask().name());
+                    ps.setString(5, task.getDescription());
+                    ps.setString(6, task.getStatus().name());
+                    ps.setLong(7, task.getAssigneeId());
+                    ps.setLong(8, task.getTaskDeadlineTime());
+                    ps.setString(9, task.getPriority().name());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchSize;
+                }
+            });
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE task_management_seq RESTART WITH " + (count + 100));
+    }
+}
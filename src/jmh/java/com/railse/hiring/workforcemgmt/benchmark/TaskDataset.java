@@ -0,0 +1,55 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.WorkforcemgmtApplication;
+import com.railse.hiring.workforcemgmt.projection.TaskListProjection;
+import com.railse.hiring.workforcemgmt.workload.AssigneeWorkloadIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application without the web layer against a private in-memory H2 database holding
+ * {@code datasetSize} generated tasks. One context per trial, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class TaskDataset {
+
+    @Param({"10000", "100000", "1000000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(WorkforcemgmtApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + datasetSize,
+                        "spring.sql.init.mode=never",
+                        // Generated rows have no updated_at; keep closed ones in place for the whole trial
+                        "workforcemgmt.archive.enabled=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        TaskDataGenerator.load(context.getBean(JdbcTemplate.class), datasetSize, 42L);
+        // Rows were inserted behind the service's back, after the startup rebuild
+        context.getBean(AssigneeWorkloadIndex.class).rebuild();
+        context.getBean(TaskListProjection.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,59 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.railse.hiring.workforcemgmt.common.model.response.Response;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.mapper.ITaskManagementMapper;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and serialization of one list response. List sizes follow what a single response can carry
+ * (pages are capped at workforcemgmt.pagination.max-page-size), with 10000 as an unpaged worst case.
+ * Runs without a Spring context or database: the generated mapper and a Boot-default ObjectMapper are built directly.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int listSize;
+
+    private ITaskManagementMapper mapper;
+    private ObjectMapper objectMapper;
+    private List<TaskManagement> models;
+    private Response<List<TaskManagementDto>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = Mappers.getMapper(ITaskManagementMapper.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        models = TaskDataGenerator.tasks(listSize, 11L);
+        response = new Response<>(mapper.modelListToDtoList(models));
+    }
+
+    @Benchmark
+    public List<TaskManagementDto> modelListToDtoList() {
+        return mapper.modelListToDtoList(models);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,126 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
+import com.railse.hiring.workforcemgmt.dto.AssignByReferenceRequest;
+import com.railse.hiring.workforcemgmt.dto.AssigneeWorkloadDto;
+import com.railse.hiring.workforcemgmt.dto.TaskCreateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskFetchByDateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.service.TaskManagementService;
+import com.railse.hiring.workforcemgmt.service.TaskQueryService;
+import com.railse.hiring.workforcemgmt.workload.AssigneeWorkloadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service hot paths against {@link TaskDataset}: ops/s plus, with the gc profiler configured in the build,
+ * allocation rate (gc.alloc.rate) and bytes allocated per operation (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskServiceBenchmark {
+
+    private static final int ASSIGNEES_PER_FETCH = 20;
+    private static final long FETCH_WINDOW_MILLIS = 7L * 24 * 60 * 60 * 1000;
+    private static final int CREATE_REQUEST_SIZE = 100;
+    private static final int PRIORITY_PAGE_SIZE = 100;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        TaskManagementService service;
+        TaskQueryService queries;
+        AssigneeWorkloadIndex workloadIndex;
+        Random random;
+        long nextReferenceId;
+
+        @Setup(Level.Trial)
+        public void setUp(TaskDataset dataset) {
+            service = dataset.bean(TaskManagementService.class);
+            queries = dataset.bean(TaskQueryService.class);
+            workloadIndex = dataset.bean(AssigneeWorkloadIndex.class);
+            random = new Random(7L);
+            nextReferenceId = 10_000_000L;
+        }
+
+        TaskFetchByDateRequest fetchRequest() {
+            List<Long> assigneeIds = new ArrayList<>(ASSIGNEES_PER_FETCH);
+            for (int i = 0; i < ASSIGNEES_PER_FETCH; i++) {
+                assigneeIds.add(1L + random.nextInt(TaskDataGenerator.ASSIGNEE_COUNT));
+            }
+            long start = TaskDataGenerator.BASE_DEADLINE
+                    + (long) (random.nextDouble() * (TaskDataGenerator.DEADLINE_SPREAD_MILLIS - FETCH_WINDOW_MILLIS));
+            TaskFetchByDateRequest request = new TaskFetchByDateRequest();
+            request.setAssigneeIds(assigneeIds);
+            request.setStartDate(start);
+            request.setEndDate(start + FETCH_WINDOW_MILLIS);
+            return request;
+        }
+
+        AssignByReferenceRequest assignRequest(int datasetSize) {
+            AssignByReferenceRequest request = new AssignByReferenceRequest();
+            request.setReferenceId((long) random.nextInt(datasetSize / TaskDataGenerator.ORDER_TASKS.size()));
+            request.setReferenceType(ReferenceType.ORDER);
+            request.setAssigneeId(1L + random.nextInt(TaskDataGenerator.ASSIGNEE_COUNT));
+            return request;
+        }
+
+        TaskCreateRequest createRequest() {
+            List<TaskCreateRequest.RequestItem> items = new ArrayList<>(CREATE_REQUEST_SIZE);
+            for (int i = 0; i < CREATE_REQUEST_SIZE; i++) {
+                TaskCreateRequest.RequestItem item = new TaskCreateRequest.RequestItem();
+                item.setReferenceId(nextReferenceId++);
+                item.setReferenceType(ReferenceType.ORDER);
+                item.setTask(TaskDataGenerator.ORDER_TASKS.get(i % TaskDataGenerator.ORDER_TASKS.size()));
+                item.setAssigneeId(1L + random.nextInt(TaskDataGenerator.ASSIGNEE_COUNT));
+                item.setPriority(Priority.values()[i % Priority.values().length]);
+                item.setTaskDeadlineTime(TaskDataGenerator.BASE_DEADLINE + random.nextInt(1_000_000));
+                items.add(item);
+            }
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setRequests(items);
+            return request;
+        }
+    }
+
+    @Benchmark
+    public PagedResult<TaskManagementDto> fetchTasksByDate(Requests requests) {
+        return requests.queries.fetchTasksByDate(requests.fetchRequest());
+    }
+
+    // One keyset page of PRIORITY_PAGE_SIZE from a random cursor
+    @Benchmark
+    public PagedResult<TaskManagementDto> findTasksByPriority(TaskDataset dataset, Requests requests) {
+        Priority priority = Priority.values()[requests.random.nextInt(Priority.values().length)];
+        return requests.queries.findTasksByPriority(priority.name(), (long) requests.random.nextInt(dataset.datasetSize), PRIORITY_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public String assignByReference(TaskDataset dataset, Requests requests) {
+        return requests.service.assignByReference(requests.assignRequest(dataset.datasetSize));
+    }
+
+    // In-memory lookup behind GET /task-mgmt/workload/{assigneeId}
+    @Benchmark
+    public AssigneeWorkloadDto workloadLookup(Requests requests) {
+        return requests.workloadIndex.getWorkload(1L + requests.random.nextInt(TaskDataGenerator.ASSIGNEE_COUNT));
+    }
+
+    // Each operation creates CREATE_REQUEST_SIZE tasks
+    @Benchmark
+    public List<TaskManagementDto> createTasks(Requests requests) {
+        return requests.service.createTasks(requests.createRequest());
+    }
+}
@@ -0,0 +1,20 @@
+package com.railse.hiring.workforcemgmt.activity;
+
+import com.railse.hiring.workforcemgmt.model.enums.ActivityType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// One task_activity row waiting to be written; the timestamp is taken when the change happens, not when the batch is flushed
+@Value
+public class ActivityEvent {
+    Long taskId;
+    ActivityType activityType;
+    String description;
+    Long userId;
+    LocalDateTime timestamp;
+
+    public static ActivityEvent of(Long taskId, ActivityType activityType, String description, Long userId) {
+        return new ActivityEvent(taskId, activityType, description, userId, LocalDateTime.now());
+    }
+}
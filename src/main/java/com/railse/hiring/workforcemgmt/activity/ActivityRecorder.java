@@ -0,0 +1,254 @@
+package com.railse.hiring.workforcemgmt.activity;
+
+import com.railse.hiring.workforcemgmt.event.TaskActivitiesRecordedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers task activity rows in a bounded queue and writes them in JDBC batches on a background worker,
+ * so audit logging is off the request path. Events are only queued once the surrounding transaction commits,
+ * which keeps the task_id foreign key satisfied and drops the log entries of rolled-back changes.
+ */
+@Slf4j
+@Component
+public class ActivityRecorder implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_activity (task_id, activity_type, description, user_id, timestamp) VALUES (?, ?, ?, ?, ?)";
+
+    public enum OverflowPolicy {
+        // Wait up to offer-timeout-ms for space, then write on the calling thread
+        BLOCK,
+        // Write on the calling thread as soon as the queue is full
+        CALLER_RUNS,
+        // Discard the event and count it
+        DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<ActivityEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMs;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ActivityRecorder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                            @Value("${workforcemgmt.activity.queue-capacity:10000}") int queueCapacity,
+                            @Value("${workforcemgmt.activity.batch-size:500}") int batchSize,
+                            @Value("${workforcemgmt.activity.flush-interval-ms:200}") long flushIntervalMs,
+                            @Value("${workforcemgmt.activity.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                            @Value("${workforcemgmt.activity.offer-timeout-ms:1000}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Caller-thread writes run in afterCommit, where the finished transaction is still bound; they need their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    public void record(ActivityEvent event) {
+        recordAll(List.of(event));
+    }
+
+    public void recordAll(Collection<ActivityEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<ActivityEvent> pending = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+            });
+        } else {
+            enqueue(pending);
+        }
+    }
+
+    // Writes everything queued so far on the calling thread; used by tests and on shutdown
+    public void flush() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void enqueue(List<ActivityEvent> events) {
+        List<ActivityEvent> overflow = new ArrayList<>();
+        for (ActivityEvent event : events) {
+            if (!running) {
+                // Not started yet or already shutting down: nothing would drain the queue
+                overflow.add(event);
+            } else if (!queue.offer(event) && !offerOnOverflow(event)) {
+                overflow.add(event);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            write(overflow);
+        }
+        if (!running) {
+            // Raced with stop(): make sure nothing is left behind in the queue
+            flush();
+        }
+    }
+
+    // Returns true once the event has been queued or deliberately discarded, false if the caller should write it
+    private boolean offerOnOverflow(ActivityEvent event) {
+        switch (overflowPolicy) {
+            case DROP:
+                droppedCount.incrementAndGet();
+                return true;
+            case BLOCK:
+                try {
+                    return queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    private void drainLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ActivityEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Activity writer failed to write a batch of {} events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ActivityEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                        ps.setLong(1, event.getTaskId());
+                        ps.setString(2, event.getActivityType().name());
+                        ps.setString(3, event.getDescription());
+                        // Optional: comments may come without a user
+                        ps.setObject(4, event.getUserId(), Types.BIGINT);
+                        ps.setTimestamp(5, Timestamp.valueOf(event.getTimestamp()));
+                    }));
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            // One bad row (e.g. its task was deleted meanwhile) must not lose the rest of the batch
+            batch.forEach(this::writeSingle);
+        }
+        Set<Long> taskIds = new LinkedHashSet<>();
+        batch.forEach(event -> taskIds.add(event.getTaskId()));
+        eventPublisher.publishEvent(new TaskActivitiesRecordedEvent(List.copyOf(taskIds)));
+    }
+
+    private void writeSingle(ActivityEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_SQL, event.getTaskId(), event.getActivityType().name(), event.getDescription(),
+                            event.getUserId(), Timestamp.valueOf(event.getTimestamp())));
+            writtenCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.warn("Dropping activity {} for task {}: {}", event.getActivityType(), event.getTaskId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "activity-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Stop the worker, then write whatever is still queued so nothing accepted before shutdown is lost
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(flushIntervalMs * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start early and stop late: the web server's lifecycle beans stop first, so in-flight requests can still record
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
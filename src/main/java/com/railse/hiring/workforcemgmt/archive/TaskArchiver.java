@@ -0,0 +1,114 @@
+package com.railse.hiring.workforcemgmt.archive;
+
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves COMPLETED and CANCELLED tasks that have not been written for {@code workforcemgmt.archive.min-age-ms},
+ * together with their activities and comments, from the hot tables into the *_archive tables. Each batch is one
+ * transaction: the task rows are locked, copied with set-based INSERT ... SELECT and deleted, and task_list_view
+ * loses them too. Tasks without an updated_at (rows loaded before it existed) count as old. A TaskChangedEvent
+ * without snapshots tells the caches and the search index that the tasks are gone.
+ */
+@Slf4j
+@Component
+public class TaskArchiver {
+
+    private static final String CLOSED = "status IN ('COMPLETED', 'CANCELLED') AND (updated_at IS NULL OR updated_at < ?)";
+    private static final String SELECT_SQL = "SELECT id FROM task_management WHERE " + CLOSED + " ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String TASK_COLUMNS =
+            "id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority, updated_at, version";
+    private static final String ACTIVITY_COLUMNS = "id, task_id, activity_type, description, user_id, timestamp";
+    private static final String COMMENT_COLUMNS = "id, task_id, comment_text, user_id, timestamp";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long minAgeMs;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter archived;
+
+    public TaskArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${workforcemgmt.archive.enabled:true}") boolean enabled,
+                        @Value("${workforcemgmt.archive.min-age-ms:2592000000}") long minAgeMs,
+                        @Value("${workforcemgmt.archive.batch-size:500}") int batchSize,
+                        @Value("${workforcemgmt.archive.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.minAgeMs = minAgeMs;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archived = Counter.builder("workforcemgmt.archive.tasks")
+                .description("Closed tasks moved to the archive tables")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${workforcemgmt.archive.interval-ms:60000}")
+    public void archive() {
+        if (enabled) {
+            archiveClosedBefore(System.currentTimeMillis() - minAgeMs);
+        }
+    }
+
+    // Returns the number of tasks archived; stops after max-batches-per-run so one pass stays bounded
+    public synchronized int archiveClosedBefore(long cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} closed tasks last written before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(long cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_SQL, Long.class, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = " IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] idArgs = ids.toArray();
+        List<Object> taskArgs = new ArrayList<>(ids.size() + 1);
+        taskArgs.add(System.currentTimeMillis());
+        taskArgs.addAll(ids);
+
+        jdbcTemplate.update("INSERT INTO task_management_archive (" + TASK_COLUMNS + ", archived_at) SELECT " + TASK_COLUMNS +
+                ", ? FROM task_management WHERE id" + in, taskArgs.toArray());
+        jdbcTemplate.update("INSERT INTO task_activity_archive (" + ACTIVITY_COLUMNS + ") SELECT " + ACTIVITY_COLUMNS +
+                " FROM task_activity WHERE task_id" + in, idArgs);
+        jdbcTemplate.update("INSERT INTO task_comment_archive (" + COMMENT_COLUMNS + ") SELECT " + COMMENT_COLUMNS +
+                " FROM task_comment WHERE task_id" + in, idArgs);
+        jdbcTemplate.update("DELETE FROM task_activity WHERE task_id" + in, idArgs);
+        jdbcTemplate.update("DELETE FROM task_comment WHERE task_id" + in, idArgs);
+        jdbcTemplate.update("DELETE FROM task_list_view WHERE id" + in, idArgs);
+        jdbcTemplate.update("DELETE FROM task_management WHERE id" + in, idArgs);
+
+        // Delivered after commit, like every other task change
+        eventPublisher.publishEvent(new TaskChangedEvent(ids, List.of()));
+        archived.increment(ids.size());
+        return ids.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.railse.hiring.workforcemgmt.cache;
+
+import com.railse.hiring.workforcemgmt.event.TaskActivitiesRecordedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+
+@Component
+public class TaskCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public TaskCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // After commit, so reads that start after the eviction see the write. A read that loaded the row before the commit can
+    // still put the old value back once the entry is gone; that copy lives until the cache TTL (expireAfterWrite) drops it
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(TaskCacheNames.TASKS, event.getTaskIds());
+        Cache aggregates = cacheManager.getCache(TaskCacheNames.TASK_AGGREGATES);
+        if (aggregates != null) {
+            aggregates.clear();
+        }
+    }
+
+    // Activity rows land after the change itself, so tasks cached in between would miss them
+    @EventListener
+    public void onActivitiesRecorded(TaskActivitiesRecordedEvent event) {
+        evict(TaskCacheNames.TASKS, event.getTaskIds());
+    }
+
+    private void evict(String cacheName, Collection<Long> taskIds) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            taskIds.forEach(cache::evict);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.railse.hiring.workforcemgmt.cache;
+
+public final class TaskCacheNames {
+    public static final String TASKS = "tasks";
+    // Short-lived, see CacheConfig; cleared on every write since any task can move any count
+    public static final String TASK_AGGREGATES = "taskAggregates";
+
+    private TaskCacheNames() {
+    }
+}
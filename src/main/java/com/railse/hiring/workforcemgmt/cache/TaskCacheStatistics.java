@@ -0,0 +1,35 @@
+package com.railse.hiring.workforcemgmt.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.railse.hiring.workforcemgmt.dto.CacheStatsDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class TaskCacheStatistics {
+
+    private final CacheManager cacheManager;
+
+    public TaskCacheStatistics(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public List<CacheStatsDto> snapshot() {
+        List<CacheStatsDto> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                result.add(new CacheStatsDto(name, nativeCache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                        stats.hitRate(), stats.evictionCount()));
+            }
+        }
+        return result;
+    }
+}
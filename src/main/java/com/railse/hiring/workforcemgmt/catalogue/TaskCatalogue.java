@@ -0,0 +1,89 @@
+package com.railse.hiring.workforcemgmt.catalogue;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Which task types apply to which reference type. Defaults to the mapping declared on {@link Task}; an optional
+ * properties file at {@code workforcemgmt.task-catalogue.location} (e.g. {@code file:./task-catalogue.properties},
+ * one line per reference type such as {@code ORDER=CREATE_INVOICE,ARRANGE_PICKUP}) overrides it per reference type
+ * and is re-read whenever it changes. Each load swaps in a new immutable EnumMap, so lookups never allocate.
+ * Only existing Task constants can be mapped; a new task type is still a new enum constant.
+ */
+@Slf4j
+@Component
+public class TaskCatalogue {
+
+    private final Resource resource;
+    private volatile Map<ReferenceType, List<Task>> tasksByReferenceType = Task.getTasksByReferenceType();
+    private long loadedVersion = -1;
+
+    public TaskCatalogue(ResourceLoader resourceLoader, @Value("${workforcemgmt.task-catalogue.location:}") String location) {
+        this.resource = location.isBlank() ? null : resourceLoader.getResource(location);
+        refresh();
+    }
+
+    public List<Task> getTasks(ReferenceType referenceType) {
+        return tasksByReferenceType.getOrDefault(referenceType, List.of());
+    }
+
+    public Map<ReferenceType, List<Task>> getTasksByReferenceType() {
+        return tasksByReferenceType;
+    }
+
+    @Scheduled(fixedDelayString = "${workforcemgmt.task-catalogue.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        if (resource == null) {
+            return;
+        }
+        try {
+            if (!resource.exists()) {
+                return;
+            }
+            long version = resource.lastModified();
+            if (version == loadedVersion) {
+                return;
+            }
+            tasksByReferenceType = load(resource);
+            loadedVersion = version;
+            log.info("Loaded task catalogue from {}: {}", resource.getDescription(), tasksByReferenceType);
+        } catch (IOException | IllegalArgumentException e) {
+            // Keep serving the last good catalogue; a half-edited file must not empty it
+            log.warn("Ignoring task catalogue {}: {}", resource.getDescription(), e.getMessage());
+        }
+    }
+
+    private static Map<ReferenceType, List<Task>> load(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        }
+        Map<ReferenceType, List<Task>> tasks = new EnumMap<>(Task.getTasksByReferenceType());
+        for (String key : properties.stringPropertyNames()) {
+            ReferenceType referenceType = ReferenceType.valueOf(key.trim());
+            List<Task> mapped = new ArrayList<>();
+            for (String name : properties.getProperty(key).split(",")) {
+                if (!name.isBlank()) {
+                    mapped.add(Task.valueOf(name.trim()));
+                }
+            }
+            tasks.put(referenceType, List.copyOf(mapped));
+        }
+        return Collections.unmodifiableMap(tasks);
+    }
+}
@@ -2,6 +2,7 @@ package com.railse.hiring.workforcemgmt.common.exception;
 
 import com.railse.hiring.workforcemgmt.common.model.response.Response;
 import com.railse.hiring.workforcemgmt.common.model.response.ResponseStatus;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -18,6 +19,34 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
    }
 
+   @ExceptionHandler(InvalidRequestException.class)
+   public final ResponseEntity<Response<Object>> handleInvalidRequestException(InvalidRequestException ex) {
+       ResponseStatus status = new ResponseStatus(StatusCode.BAD_REQUEST.getCode(), ex.getMessage());
+       Response<Object> response = new Response<>(null, null, status);
+       return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+   }
+
+   @ExceptionHandler(ServiceUnavailableException.class)
+   public final ResponseEntity<Response<Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+       ResponseStatus status = new ResponseStatus(StatusCode.SERVICE_UNAVAILABLE.getCode(), ex.getMessage());
+       Response<Object> response = new Response<>(null, null, status);
+       return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+   }
+
+   @ExceptionHandler(OptimisticLockingFailureException.class)
+   public final ResponseEntity<Response<Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+       ResponseStatus status = new ResponseStatus(StatusCode.CONFLICT.getCode(), "The resource was modified concurrently, please retry: " + ex.getMessage());
+       Response<Object> response = new Response<>(null, null, status);
+       return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+   }
+
+   @ExceptionHandler(PreconditionFailedException.class)
+   public final ResponseEntity<Response<Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+       ResponseStatus status = new ResponseStatus(StatusCode.PRECONDITION_FAILED.getCode(), ex.getMessage());
+       Response<Object> response = new Response<>(null, null, status);
+       return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+   }
+
    @ExceptionHandler(Exception.class)
    public final ResponseEntity<Response<Object>> handleAllExceptions(Exception ex) {
               ResponseStatus status = new ResponseStatus(StatusCode.INTERNAL_SERVER_ERROR.getCode(), "An unexpected error occurred: " + ex.getMessage());
@@ -0,0 +1,7 @@
+package com.railse.hiring.workforcemgmt.common.exception;
+
+public class InvalidRequestException extends RuntimeException {
+   public InvalidRequestException(String message) {
+       super(message);
+   }
+}
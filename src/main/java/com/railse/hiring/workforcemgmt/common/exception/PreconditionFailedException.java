@@ -0,0 +1,11 @@
+package com.railse.hiring.workforcemgmt.common.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+   public PreconditionFailedException(String message) {
+       super(message);
+   }
+
+   public PreconditionFailedException(String message, Throwable cause) {
+       super(message, cause);
+   }
+}
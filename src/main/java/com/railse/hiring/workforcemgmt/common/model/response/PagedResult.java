@@ -0,0 +1,15 @@
+package com.railse.hiring.workforcemgmt.common.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PagedResult<T> {
+   private List<T> data;
+   private Pagination pagination;
+}
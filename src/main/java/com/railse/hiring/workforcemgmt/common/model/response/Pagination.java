@@ -2,10 +2,17 @@ package com.railse.hiring.workforcemgmt.common.model.response;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class Pagination {
-   // Not implemented in current assignment
+   // Keyset cursor: pass it back as "cursor" to read the next page, null on the last page
+   private Long nextCursor;
+   private Integer pageSize;
+   private Boolean hasMore;
 }
@@ -19,6 +19,10 @@ public class Response<T> {
        this.status = status;
    }
 
+   public Response(T data, Pagination pagination) {
+       this(data, pagination, new ResponseStatus(200, "Success"));
+   }
+
    public Response(T data) {
        this(data, null, new ResponseStatus(200, "Success"));
    }
@@ -0,0 +1,27 @@
+package com.railse.hiring.workforcemgmt.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.railse.hiring.workforcemgmt.cache.TaskCacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Caches are Caffeine-backed; names, size and TTL come from spring.cache.* in application.properties
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Aggregates need a much shorter TTL than the per-task caches, so they get their own spec
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> aggregateCacheCustomizer(
+            @Value("${workforcemgmt.aggregation.cache-ttl-ms:5000}") long ttlMs,
+            @Value("${workforcemgmt.aggregation.cache-max-size:1000}") long maxSize) {
+        return cacheManager -> cacheManager.registerCustomCache(TaskCacheNames.TASK_AGGREGATES,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttlMs)).maximumSize(maxSize).recordStats().build());
+    }
+}
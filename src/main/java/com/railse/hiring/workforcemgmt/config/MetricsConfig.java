@@ -0,0 +1,40 @@
+package com.railse.hiring.workforcemgmt.config;
+
+import com.railse.hiring.workforcemgmt.activity.ActivityRecorder;
+import com.railse.hiring.workforcemgmt.feed.TaskChangeFeed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Service timers come from @Timed (management.observations.annotations.enabled), repository timers, Hikari, Hibernate
+// and cache meters from Spring Boot's auto-configuration; this adds the background pipelines' own counters.
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "workforcemgmt.task.service";
+
+    @Bean
+    public MeterBinder taskPipelineMetrics(ActivityRecorder activityRecorder, TaskChangeFeed taskChangeFeed) {
+        return registry -> {
+            Gauge.builder("workforcemgmt.activity.queue.depth", activityRecorder, ActivityRecorder::getQueueDepth)
+                    .description("Activity rows waiting for the background writer")
+                    .register(registry);
+            FunctionCounter.builder("workforcemgmt.activity.written", activityRecorder, ActivityRecorder::getWrittenCount)
+                    .register(registry);
+            FunctionCounter.builder("workforcemgmt.activity.dropped", activityRecorder, ActivityRecorder::getDroppedCount)
+                    .register(registry);
+            FunctionCounter.builder("workforcemgmt.activity.failed", activityRecorder, ActivityRecorder::getFailedCount)
+                    .register(registry);
+            Gauge.builder("workforcemgmt.feed.subscribers", taskChangeFeed, TaskChangeFeed::getSubscriberCount)
+                    .register(registry);
+            FunctionCounter.builder("workforcemgmt.feed.dropped.subscribers", taskChangeFeed, TaskChangeFeed::getDroppedSubscriberCount)
+                    .description("Subscribers disconnected because their queue was full or their socket stalled")
+                    .register(registry);
+            FunctionCounter.builder("workforcemgmt.feed.skipped.changes", taskChangeFeed, TaskChangeFeed::getSkippedChangeCount)
+                    .description("Committed changes not pushed to any subscriber because the feed loader was backlogged")
+                    .register(registry);
+        };
+    }
+}
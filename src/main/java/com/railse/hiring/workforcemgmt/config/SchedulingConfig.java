@@ -0,0 +1,11 @@
+package com.railse.hiring.workforcemgmt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs use @Scheduled with intervals from workforcemgmt.* in application.properties.
+// spring.task.scheduling.pool.size gives each job its own thread; raise it when adding a job
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,28 @@
+package com.railse.hiring.workforcemgmt.controller;
+
+import com.railse.hiring.workforcemgmt.common.model.response.Response;
+import com.railse.hiring.workforcemgmt.dto.OverdueTaskDto;
+import com.railse.hiring.workforcemgmt.overdue.OverdueTaskTracker;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Served from OverdueTaskTracker; no database access on this path
+@RestController
+@RequestMapping("/task-mgmt/overdue")
+public class OverdueTaskController {
+
+   private final OverdueTaskTracker overdueTaskTracker;
+
+   public OverdueTaskController(OverdueTaskTracker overdueTaskTracker) {
+       this.overdueTaskTracker = overdueTaskTracker;
+   }
+
+   @GetMapping
+   public Response<List<OverdueTaskDto>> getOverdueTasks(@RequestParam(name = "assignee_ids", required = false) List<Long> assigneeIds) {
+       return new Response<>(overdueTaskTracker.findOverdue(assigneeIds));
+   }
+}
@@ -0,0 +1,26 @@
+package com.railse.hiring.workforcemgmt.controller;
+
+import com.railse.hiring.workforcemgmt.cache.TaskCacheStatistics;
+import com.railse.hiring.workforcemgmt.common.model.response.Response;
+import com.railse.hiring.workforcemgmt.dto.CacheStatsDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/task-mgmt/cache")
+public class TaskCacheController {
+
+   private final TaskCacheStatistics taskCacheStatistics;
+
+   public TaskCacheController(TaskCacheStatistics taskCacheStatistics) {
+       this.taskCacheStatistics = taskCacheStatistics;
+   }
+
+   @GetMapping("/stats")
+   public Response<List<CacheStatsDto>> getCacheStats() {
+       return new Response<>(taskCacheStatistics.snapshot());
+   }
+}
@@ -0,0 +1,36 @@
+package com.railse.hiring.workforcemgmt.controller;
+
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.feed.TaskChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Push alternative to polling GET /task-mgmt/{id} and /fetch-by-date/v2
+@RestController
+@RequestMapping("/task-mgmt/feed")
+public class TaskFeedController {
+
+   private final TaskChangeFeed taskChangeFeed;
+
+   public TaskFeedController(TaskChangeFeed taskChangeFeed) {
+       this.taskChangeFeed = taskChangeFeed;
+   }
+
+   @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+   public SseEmitter subscribe(@RequestParam(name = "assignee_id", required = false) Long assigneeId,
+                               @RequestParam(name = "reference_id", required = false) Long referenceId,
+                               @RequestParam(name = "reference_type", required = false) ReferenceType referenceType) {
+       if (assigneeId != null && referenceId == null && referenceType == null) {
+           return taskChangeFeed.subscribeToAssignee(assigneeId);
+       }
+       if (assigneeId == null && referenceId != null && referenceType != null) {
+           return taskChangeFeed.subscribeToReference(referenceId, referenceType);
+       }
+       throw new InvalidRequestException("Subscribe with either assignee_id, or reference_id and reference_type");
+   }
+}
@@ -1,10 +1,28 @@
 package com.railse.hiring.workforcemgmt.controller;
 
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.common.exception.PreconditionFailedException;
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
 import com.railse.hiring.workforcemgmt.common.model.response.Response;
 import com.railse.hiring.workforcemgmt.dto.*;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
 import com.railse.hiring.workforcemgmt.service.TaskManagementService;
+import com.railse.hiring.workforcemgmt.service.TaskQueryService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -12,14 +30,20 @@ import java.util.List;
 public class TaskManagementController {
 
    private final TaskManagementService taskManagementService;
+   private final TaskQueryService taskQueryService;
+   private final ObjectMapper objectMapper;
 
-   public TaskManagementController(TaskManagementService taskManagementService) {
+   public TaskManagementController(TaskManagementService taskManagementService, TaskQueryService taskQueryService, ObjectMapper objectMapper) {
        this.taskManagementService = taskManagementService;
+       this.taskQueryService = taskQueryService;
+       this.objectMapper = objectMapper;
    }
 
    @GetMapping("/{id}")
-   public Response<TaskManagementDto> getTaskById(@PathVariable Long id) {
-       return new Response<>(taskManagementService.findTaskById(id));
+   public ResponseEntity<Response<TaskManagementDto>> getTaskById(@PathVariable Long id) {
+       TaskManagementDto task = taskQueryService.findTaskById(id);
+       // Comments and activities are part of this representation but don't bump the version, so their counts go into the tag
+       return withETag(task, task.getVersion() + "." + sizeOf(task.getComments()) + "." + sizeOf(task.getActivities()));
    }
 
    @PostMapping("/create")
@@ -27,11 +51,22 @@ public class TaskManagementController {
        return new Response<>(taskManagementService.createTasks(request));
    }
 
+   // Retry-safe create: items carry an idempotency_key; repeats are skipped and same-reference items are merged
+   @PostMapping("/ingest")
+   public Response<TaskIngestResultDto> ingestTasks(@RequestBody TaskIngestRequest request) {
+       return new Response<>(taskManagementService.ingestTasks(request));
+   }
+
    @PostMapping("/update")
    public Response<List<TaskManagementDto>> updateTasks(@RequestBody UpdateTaskRequest request) {
        return new Response<>(taskManagementService.updateTasks(request));
    }
 
+   @PostMapping("/update/bulk")
+   public Response<List<TaskUpdateResultDto>> bulkUpdateTasks(@RequestBody UpdateTaskRequest request) {
+       return new Response<>(taskManagementService.bulkUpdateTasks(request));
+   }
+
    @PostMapping("/assign-by-ref")
    public Response<String> assignByReference(@RequestBody AssignByReferenceRequest request) {
        return new Response<>(taskManagementService.assignByReference(request));
@@ -39,17 +74,71 @@ public class TaskManagementController {
 
       @PostMapping("/fetch-by-date/v2")
    public Response<List<TaskManagementDto>> fetchByDate(@RequestBody TaskFetchByDateRequest request) {
-       return new Response<>(taskManagementService.fetchTasksByDate(request));
+       PagedResult<TaskManagementDto> page = taskQueryService.fetchTasksByDate(request);
+       return new Response<>(page.getData(), page.getPagination());
+   }
+
+   // One TaskManagementDto per line, written as rows come off the database cursor instead of one buffered Response envelope
+   @PostMapping(value = "/fetch-by-date/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+   public ResponseEntity<StreamingResponseBody> exportByDate(@RequestBody TaskFetchByDateRequest request) {
+       ObjectWriter writer = objectMapper.writerFor(TaskManagementDto.class)
+               .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+       StreamingResponseBody body = outputStream -> {
+           try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                   .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                   .setRootValueSeparator(null)) {
+               taskQueryService.exportTasksByDate(request, task -> {
+                   try {
+                       writer.writeValue(generator, task);
+                       generator.writeRaw('\n');
+                   } catch (IOException e) {
+                       throw new UncheckedIOException(e);
+                   }
+               });
+           }
+       };
+       return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
    }
 
    @PutMapping("/{id}/priority")
-   public Response<TaskManagementDto> updateTaskPriority(@PathVariable Long id, @RequestBody UpdateTaskPriorityRequest request) {
-       return new Response<>(taskManagementService.updateTaskPriority(id, request));
+   public ResponseEntity<Response<TaskManagementDto>> updateTaskPriority(@PathVariable Long id, @RequestBody UpdateTaskPriorityRequest request,
+                                                                         @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+       if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+           return withVersionETag(taskManagementService.updateTaskPriority(id, request));
+       }
+       Long version = parseVersion(ifMatch);
+       if (request.getExpectedVersion() != null && !request.getExpectedVersion().equals(version)) {
+           throw new InvalidRequestException("If-Match version " + version + " does not match expected_version " + request.getExpectedVersion());
+       }
+       request.setExpectedVersion(version);
+       try {
+           return withVersionETag(taskManagementService.updateTaskPriority(id, request));
+       } catch (OptimisticLockingFailureException e) {
+           // Under If-Match a task at any other version is a failed precondition, not a conflict to retry
+           throw new PreconditionFailedException(e.getMessage(), e);
+       }
    }
 
    @GetMapping("/priority/{priority}")
-   public Response<List<TaskManagementDto>> getTasksByPriority(@PathVariable String priority) {
-       return new Response<>(taskManagementService.findTasksByPriority(priority));
+   public Response<List<TaskManagementDto>> getTasksByPriority(@PathVariable String priority,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(name = "page_size", required = false) Integer pageSize) {
+       PagedResult<TaskManagementDto> page = taskQueryService.findTasksByPriority(priority, cursor, pageSize);
+       return new Response<>(page.getData(), page.getPagination());
+   }
+
+   @PostMapping("/aggregate")
+   public Response<TaskAggregationDto> aggregateTasks(@RequestBody TaskAggregationRequest request) {
+       return new Response<>(taskQueryService.aggregateTasks(request));
+   }
+
+   @GetMapping("/search")
+   public Response<TaskSearchResultDto> searchTasks(@RequestParam(required = false) String q,
+                                                    @RequestParam(required = false) TaskStatus status,
+                                                    @RequestParam(required = false) Priority priority,
+                                                    @RequestParam(required = false) Task task,
+                                                    @RequestParam(required = false) Integer limit) {
+       return new Response<>(taskQueryService.searchTasks(q, status, priority, task, limit));
    }
 
    @PostMapping("/{id}/comment")
@@ -59,6 +148,47 @@ public class TaskManagementController {
 
    @GetMapping("/{id}/details")
    public Response<TaskManagementDto> getTaskDetails(@PathVariable Long id) {
-       return new Response<>(taskManagementService.getTaskDetails(id));
+       return new Response<>(taskQueryService.getTaskDetails(id));
+   }
+
+   @GetMapping("/archive/{id}")
+   public Response<TaskManagementDto> getArchivedTaskDetails(@PathVariable Long id) {
+       return new Response<>(taskQueryService.getArchivedTaskDetails(id));
+   }
+
+   // The priority response is the summary without children, so the task version alone tags it
+   private static ResponseEntity<Response<TaskManagementDto>> withVersionETag(TaskManagementDto task) {
+       return withETag(task, String.valueOf(task.getVersion()));
+   }
+
+   private static ResponseEntity<Response<TaskManagementDto>> withETag(TaskManagementDto task, String tag) {
+       ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+       if (task.getVersion() != null) {
+           response.eTag("\"" + tag + "\"");
+       }
+       return response.body(new Response<>(task));
+   }
+
+   private static int sizeOf(List<?> items) {
+       return items == null ? 0 : items.size();
+   }
+
+   // Accepts 3, "3" and the GET tags "3.<comments>.<activities>"; only the version is compared.
+   // If-Match uses strong comparison (RFC 9110 section 13.1.1), so a weak tag such as W/"3" never matches
+   private static Long parseVersion(String ifMatch) {
+       String tag = ifMatch.trim();
+       if (tag.startsWith("W/")) {
+           throw new PreconditionFailedException("If-Match requires a strong entity tag, got: " + ifMatch);
+       }
+       tag = tag.replace("\"", "");
+       int childCounts = tag.indexOf('.');
+       if (childCounts >= 0) {
+           tag = tag.substring(0, childCounts);
+       }
+       try {
+           return Long.valueOf(tag);
+       } catch (NumberFormatException e) {
+           throw new InvalidRequestException("If-Match must carry a single task version, got: " + ifMatch);
+       }
    }
 }
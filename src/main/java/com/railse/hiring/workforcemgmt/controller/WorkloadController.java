@@ -0,0 +1,35 @@
+package com.railse.hiring.workforcemgmt.controller;
+
+import com.railse.hiring.workforcemgmt.common.model.response.Response;
+import com.railse.hiring.workforcemgmt.dto.AssigneeWorkloadDto;
+import com.railse.hiring.workforcemgmt.workload.AssigneeWorkloadIndex;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Served from AssigneeWorkloadIndex; no database access on these paths
+@RestController
+@RequestMapping("/task-mgmt/workload")
+public class WorkloadController {
+
+   private final AssigneeWorkloadIndex workloadIndex;
+
+   public WorkloadController(AssigneeWorkloadIndex workloadIndex) {
+       this.workloadIndex = workloadIndex;
+   }
+
+   @GetMapping("/{assigneeId}")
+   public Response<AssigneeWorkloadDto> getWorkload(@PathVariable Long assigneeId) {
+       return new Response<>(workloadIndex.getWorkload(assigneeId));
+   }
+
+   @GetMapping
+   public Response<List<AssigneeWorkloadDto>> getWorkloads(@RequestParam(name = "assignee_ids") List<Long> assigneeIds) {
+       return new Response<>(assigneeIds.stream().map(workloadIndex::getWorkload).collect(Collectors.toList()));
+   }
+}
@@ -5,10 +5,14 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class AssignByReferenceRequest {
    private Long referenceId;
    private ReferenceType referenceType;
    private Long assigneeId;
-}
\ No newline at end of file
+   // Used when assigneeId is left out: the least-loaded candidate gets the tasks
+   private List<Long> candidateAssigneeIds;
+}
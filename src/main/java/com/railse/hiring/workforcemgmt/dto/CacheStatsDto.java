@@ -0,0 +1,20 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CacheStatsDto {
+   private String cacheName;
+   private Long estimatedSize;
+   private Long hitCount;
+   private Long missCount;
+   private Double hitRate;
+   private Long evictionCount;
+}
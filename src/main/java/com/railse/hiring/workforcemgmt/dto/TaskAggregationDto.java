@@ -0,0 +1,20 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskAggregationDto {
+   private long total;
+   private List<TaskGroupCountDto> groups;
+   // Empty unless deadline_bucket_ms was requested; tasks without a deadline are not counted here
+   private List<DeadlineBucketDto> deadlineHistogram;
+}
@@ -0,0 +1,23 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.railse.hiring.workforcemgmt.model.enums.TaskDimension;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskAggregationRequest {
+   // Empty or missing: a single group with the overall count
+   private List<TaskDimension> groupBy;
+   // Optional filters; the date range applies to the task deadline
+   private List<Long> assigneeIds;
+   private List<TaskStatus> statuses;
+   private Long startDate;
+   private Long endDate;
+   // When set, also count tasks with a deadline per bucket of this width
+   private Long deadlineBucketMs;
+}
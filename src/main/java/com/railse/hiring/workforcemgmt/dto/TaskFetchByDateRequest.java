@@ -12,4 +12,8 @@ public class TaskFetchByDateRequest {
    private Long startDate;
    private Long endDate;
    private List<Long> assigneeIds;
+   private Long cursor;
+   private Integer pageSize;
+   // Also return matching tasks from the archive tables; off by default so the usual read never touches them
+   private Boolean includeArchived;
 }
\ No newline at end of file
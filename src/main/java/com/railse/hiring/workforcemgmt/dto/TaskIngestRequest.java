@@ -0,0 +1,21 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+@Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskIngestRequest {
+   private List<RequestItem> requests;
+
+   @Data
+   @EqualsAndHashCode(callSuper = true)
+   @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+   public static class RequestItem extends TaskCreateRequest.RequestItem {
+       private String idempotencyKey;
+   }
+}
@@ -0,0 +1,25 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskIngestResultDto {
+   private int created;
+   // Items whose idempotency key was already accepted, earlier in this batch or by a previous request
+   private int duplicates;
+   // Items folded into another item of this batch for the same reference and task
+   private int merged;
+   private List<TaskManagementDto> tasks;
+   // Idempotency key of each duplicate item, mapped to the task its first occurrence created or was merged into
+   private Map<String, Long> duplicateTaskIds;
+}
@@ -7,10 +7,12 @@ import com.railse.hiring.workforcemgmt.model.enums.Priority;
 import com.railse.hiring.workforcemgmt.model.enums.Task;
 import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class TaskManagementDto {
    private Long id;
@@ -22,6 +24,22 @@ public class TaskManagementDto {
    private Long assigneeId;
    private Long taskDeadlineTime;
    private Priority priority;
+   private Long version;
    private List<TaskActivityDto> activities;
    private List<TaskCommentDto> comments;
+
+   // List-row constructor for the task_list_view DTO queries; activities and comments stay null
+   public TaskManagementDto(Long id, Long referenceId, ReferenceType referenceType, Task task, String description,
+                            TaskStatus status, Long assigneeId, Long taskDeadlineTime, Priority priority, Long version) {
+       this.id = id;
+       this.referenceId = referenceId;
+       this.referenceType = referenceType;
+       this.task = task;
+       this.description = description;
+       this.status = status;
+       this.assigneeId = assigneeId;
+       this.taskDeadlineTime = taskDeadlineTime;
+       this.priority = priority;
+       this.version = version;
+   }
 }
@@ -0,0 +1,22 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskSearchResultDto {
+   private long totalHits;
+   // Best matches first, at most the requested limit
+   private List<TaskManagementDto> tasks;
+   // Dimension (status, priority, task) -> value -> number of matching tasks, over all hits
+   private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,24 @@
+package com.railse.hiring.workforcemgmt.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TaskUpdateResultDto {
+   private Long taskId;
+   private Outcome outcome;
+   private String message;
+   private TaskManagementDto task;
+
+   public enum Outcome {
+       UPDATED,
+       NOT_FOUND,
+       CONFLICT
+   }
+}
@@ -1,9 +1,14 @@
 package com.railse.hiring.workforcemgmt.dto;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.railse.hiring.workforcemgmt.model.enums.Priority;
 import lombok.Data;
 
 @Data
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class UpdateTaskPriorityRequest {
     private Priority priority;
+    // Optional precondition, also settable through If-Match: the change is only applied if the task is still at this version
+    private Long expectedVersion;
 }
@@ -18,5 +18,7 @@ public class UpdateTaskRequest {
        private Long taskId;
        private TaskStatus taskStatus;
        private String description;
+       // Optional precondition: the item is only applied if the task is still at this version
+       private Long expectedVersion;
    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.railse.hiring.workforcemgmt.event;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+
+/**
+ * The last snapshot version applied per task. After-commit listeners of concurrent transactions can run in either
+ * order, so an index asks here before applying a snapshot and skips one older than what it already holds. Closed
+ * tasks keep their entry, otherwise a late snapshot from before the close would reopen them. Not thread-safe; the
+ * owning index calls it under its own lock.
+ */
+public class SnapshotVersions {
+
+    private final Long2LongOpenHashMap applied = new Long2LongOpenHashMap();
+
+    public SnapshotVersions() {
+        applied.defaultReturnValue(Long.MIN_VALUE);
+    }
+
+    // Records the snapshot's version and returns true unless a newer snapshot of the task was already applied
+    public boolean advance(TaskSnapshot snapshot) {
+        if (snapshot.getVersion() == null) {
+            return true;
+        }
+        long taskId = snapshot.getId();
+        long version = snapshot.getVersion();
+        if (version < applied.get(taskId)) {
+            return false;
+        }
+        applied.put(taskId, version);
+        return true;
+    }
+
+    public void clear() {
+        applied.clear();
+    }
+}
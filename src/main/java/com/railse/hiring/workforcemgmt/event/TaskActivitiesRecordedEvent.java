@@ -0,0 +1,11 @@
+package com.railse.hiring.workforcemgmt.event;
+
+import lombok.Value;
+
+import java.util.Collection;
+
+// Published by ActivityRecorder once a batch of activity rows is written, with the ids of the tasks they belong to
+@Value
+public class TaskActivitiesRecordedEvent {
+    Collection<Long> taskIds;
+}
@@ -0,0 +1,13 @@
+package com.railse.hiring.workforcemgmt.event;
+
+import lombok.Value;
+
+import java.util.Collection;
+
+// Published by every write path in TaskManagementServiceImpl with the ids of the tasks it created or modified,
+// and their state after the write
+@Value
+public class TaskChangedEvent {
+    Collection<Long> taskIds;
+    Collection<TaskSnapshot> tasks;
+}
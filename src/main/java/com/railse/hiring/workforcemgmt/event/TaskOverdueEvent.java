@@ -0,0 +1,11 @@
+package com.railse.hiring.workforcemgmt.event;
+
+import lombok.Value;
+
+// Published by OverdueTaskTracker once per ASSIGNED task whose deadline has just passed
+@Value
+public class TaskOverdueEvent {
+    Long taskId;
+    Long assigneeId;
+    Long taskDeadlineTime;
+}
@@ -0,0 +1,21 @@
+package com.railse.hiring.workforcemgmt.event;
+
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import lombok.Value;
+
+// The fields of a task that in-memory indexes care about, as of the moment it was written
+@Value
+public class TaskSnapshot {
+    Long id;
+    Long assigneeId;
+    TaskStatus status;
+    Priority priority;
+    Long taskDeadlineTime;
+    // The task's version as written; null when unknown, in which case the snapshot is always applied
+    Long version;
+
+    public boolean isOpen() {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+}
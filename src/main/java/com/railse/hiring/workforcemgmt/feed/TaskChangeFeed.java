@@ -0,0 +1,320 @@
+package com.railse.hiring.workforcemgmt.feed;
+
+import com.railse.hiring.workforcemgmt.common.exception.ServiceUnavailableException;
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.mapper.ITaskManagementMapper;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-sent task deltas per assignee or per reference. An idle subscription is an async request plus a small
+ * bounded queue, with no thread attached. After each commit the changed tasks are loaded once, off the request
+ * thread, and offered to the matching subscribers; a sender pool drains each subscriber's queue, one drain at a
+ * time per subscriber. A subscriber whose queue is full is too slow to keep up and is disconnected. So is one whose
+ * socket write has been blocked for longer than the send timeout: the sender thread stuck in that write is replaced
+ * until the write fails, so a client that stopped reading cannot hold up delivery to everyone else.
+ */
+@Slf4j
+@Component
+public class TaskChangeFeed implements SmartLifecycle {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final TaskRepository taskRepository;
+    private final ITaskManagementMapper taskMapper;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final int maxStalledSenders;
+    private final ThreadPoolExecutor loader;
+    private final ThreadPoolExecutor sender;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> byAssignee = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> byReference = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final AtomicLong skippedChanges = new AtomicLong();
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+
+    private volatile boolean running;
+
+    public TaskChangeFeed(TaskRepository taskRepository, ITaskManagementMapper taskMapper,
+                          @Value("${workforcemgmt.feed.subscriber-queue-capacity:64}") int queueCapacity,
+                          @Value("${workforcemgmt.feed.max-subscribers:30000}") int maxSubscribers,
+                          @Value("${workforcemgmt.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                          @Value("${workforcemgmt.feed.sender-threads:4}") int senderThreads,
+                          @Value("${workforcemgmt.feed.pending-changes:1000}") int pendingChanges,
+                          @Value("${workforcemgmt.feed.send-timeout-ms:5000}") long sendTimeoutMs,
+                          @Value("${workforcemgmt.feed.max-stalled-senders:64}") int maxStalledSenders) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.maxStalledSenders = maxStalledSenders;
+        this.loader = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pendingChanges), daemon("task-feed-loader"));
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemon("task-feed-sender"));
+    }
+
+    public SseEmitter subscribeToAssignee(long assigneeId) {
+        return subscribe(byAssignee, assigneeId);
+    }
+
+    public SseEmitter subscribeToReference(long referenceId, ReferenceType referenceType) {
+        return subscribe(byReference, referenceKey(referenceId, referenceType));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+
+    public long getSkippedChangeCount() {
+        return skippedChanges.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscriberCount.get() == 0 || !running) {
+            return;
+        }
+        List<Long> taskIds = List.copyOf(event.getTaskIds());
+        try {
+            loader.execute(() -> publish(taskIds));
+        } catch (RejectedExecutionException e) {
+            // The loader is this far behind; subscribers miss these deltas rather than the writer waiting
+            skippedChanges.incrementAndGet();
+            log.warn("Task feed is backlogged, skipped a change of {} tasks", taskIds.size());
+        }
+    }
+
+    // Keeps idle connections from being closed by proxies and finds subscribers that went away without a FIN
+    @Scheduled(fixedDelayString = "${workforcemgmt.feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    // A client that stopped reading blocks its sender in the socket write until the container's write timeout. Drop it
+    // now and add a sender in its place; the stuck thread gives its slot back once the write fails
+    @Scheduled(fixedDelayString = "${workforcemgmt.feed.stall-check-interval-ms:1000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && now - sendingSince > sendTimeoutNanos && subscriber.stalled.compareAndSet(false, true)) {
+                droppedSubscribers.incrementAndGet();
+                subscriber.close();
+                if (stalledSenders.incrementAndGet() <= maxStalledSenders) {
+                    subscriber.replaced = true;
+                    resizeSender(1);
+                } else {
+                    stalledSenders.decrementAndGet();
+                    log.warn("Task feed has {} senders stuck on stalled clients; not adding more", maxStalledSenders);
+                }
+            }
+        }
+    }
+
+    // Growing sets the maximum first and shrinking sets the core first, as ThreadPoolExecutor requires core <= max
+    private synchronized void resizeSender(int delta) {
+        int size = sender.getCorePoolSize() + delta;
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    // Overridden by tests to stand in for the servlet response
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private <K> SseEmitter subscribe(Map<K, Set<Subscriber>> index, K key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many task feed subscribers, retry later");
+        }
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, () -> {
+            index.computeIfPresent(key, (k, members) -> {
+                members.removeIf(member -> member.emitter == emitter);
+                return members.isEmpty() ? null : members;
+            });
+        });
+        subscribers.add(subscriber);
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    private void publish(List<Long> taskIds) {
+        List<TaskManagementDto> tasks = taskMapper.modelListToDtoList(taskRepository.findAllById(taskIds));
+        for (TaskManagementDto task : tasks) {
+            deliver(byAssignee.get(task.getAssigneeId()), task);
+            deliver(byReference.get(referenceKey(task.getReferenceId(), task.getReferenceType())), task);
+        }
+    }
+
+    private void deliver(Set<Subscriber> members, TaskManagementDto task) {
+        if (members != null) {
+            members.forEach(subscriber -> subscriber.offer(task));
+        }
+    }
+
+    private static String referenceKey(Long referenceId, ReferenceType referenceType) {
+        return referenceType + ":" + referenceId;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        loader.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Runnable unindex;
+        private final BlockingQueue<Object> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        // System.nanoTime() when the current send started, 0 while not sending
+        private volatile long sendingSince;
+        private volatile boolean replaced;
+
+        Subscriber(SseEmitter emitter, Runnable unindex) {
+            this.emitter = emitter;
+            this.unindex = unindex;
+        }
+
+        void offer(Object message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(message)) {
+                droppedSubscribers.incrementAndGet();
+                close();
+                // complete() waits on the emitter's monitor, which a send in progress holds; a running drain completes it instead
+                if (!draining.get()) {
+                    emitter.complete();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            boolean failed = false;
+            try {
+                Object message;
+                while (!closed.get() && (message = pending.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    if (message == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        TaskManagementDto task = (TaskManagementDto) message;
+                        emitter.send(SseEmitter.event().name("task").id(String.valueOf(task.getId()))
+                                .data(task, MediaType.APPLICATION_JSON));
+                    }
+                    sendingSince = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                failed = true;
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                sendingSince = 0;
+                draining.set(false);
+                if (replaced) {
+                    replaced = false;
+                    stalledSenders.decrementAndGet();
+                    resizeSender(-1);
+                }
+            }
+            if (closed.get()) {
+                // Dropped while this drain was sending
+                if (!failed) {
+                    emitter.complete();
+                }
+            } else if (!pending.isEmpty()) {
+                // Something arrived between the last poll and releasing the flag
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                unindex.run();
+                subscriberCount.decrementAndGet();
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.railse.hiring.workforcemgmt.ingest;
+
+import com.railse.hiring.workforcemgmt.repository.TaskIdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bloom filter over recently accepted ingestion keys, so a batch of fresh keys is inserted without first asking the
+ * database whether any of them exist. "Maybe seen" keys are confirmed against task_idempotency_key.
+ * Memory is bounded by keeping two generations: once the current one holds {@code expected-keys} keys it becomes the
+ * previous one and the oldest generation is dropped. A retry of a key that has aged out is not caught here but by
+ * the table's primary key.
+ */
+@Component
+public class IdempotencyKeyFilter {
+
+    private final TaskIdempotencyKeyRepository keyRepository;
+    private final int expectedKeys;
+    private final int bitCount;
+    private final int hashCount;
+
+    private long[] current;
+    private long[] previous;
+    private int currentKeys;
+
+    public IdempotencyKeyFilter(TaskIdempotencyKeyRepository keyRepository,
+                                @Value("${workforcemgmt.ingest.expected-keys:1000000}") int expectedKeys,
+                                @Value("${workforcemgmt.ingest.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.keyRepository = keyRepository;
+        this.expectedKeys = expectedKeys;
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        this.current = new long[(bitCount + 63) / 64];
+        this.previous = new long[current.length];
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<String> recent = keyRepository.findRecentKeys(Limit.of(expectedKeys));
+        current = new long[current.length];
+        previous = new long[current.length];
+        currentKeys = 0;
+        recent.forEach(this::put);
+    }
+
+    public synchronized boolean mightContain(String key) {
+        long hash = hash(key);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    public synchronized void putAll(Collection<String> keys) {
+        keys.forEach(this::put);
+    }
+
+    private void put(String key) {
+        if (currentKeys >= expectedKeys) {
+            previous = current;
+            current = new long[previous.length];
+            currentKeys = 0;
+        }
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            current[bit >>> 6] |= 1L << bit;
+        }
+        currentKeys++;
+    }
+
+    private boolean contains(long[] bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a with a murmur finaliser; the two halves drive double hashing
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
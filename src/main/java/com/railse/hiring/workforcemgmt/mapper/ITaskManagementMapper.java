@@ -2,12 +2,17 @@ package com.railse.hiring.workforcemgmt.mapper;
 
 import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
 import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.factory.Mappers;
 
 import com.railse.hiring.workforcemgmt.dto.TaskActivityDto;
 import com.railse.hiring.workforcemgmt.dto.TaskCommentDto;
+import com.railse.hiring.workforcemgmt.model.ArchivedTaskActivity;
+import com.railse.hiring.workforcemgmt.model.ArchivedTaskComment;
 import com.railse.hiring.workforcemgmt.model.TaskActivity;
 import com.railse.hiring.workforcemgmt.model.TaskComment;
 import java.util.List;
@@ -16,15 +21,31 @@ import java.util.List;
 public interface ITaskManagementMapper {
    
 
+   // Full mapping, walks activities and comments: only use on tasks loaded with TaskRepository.findWithDetailsById
    TaskManagementDto modelToDto(TaskManagement model);
 
+   // List views never touch the child collections, so no lazy loads per task
+   @Named("summary")
+   @Mapping(target = "activities", ignore = true)
+   @Mapping(target = "comments", ignore = true)
+   TaskManagementDto modelToSummaryDto(TaskManagement model);
+
+   @Mapping(target = "activities", ignore = true)
+   @Mapping(target = "comments", ignore = true)
+   @Mapping(target = "updatedAt", ignore = true)
    TaskManagement dtoToModel(TaskManagementDto dto);
 
+   @IterableMapping(qualifiedByName = "summary")
    List<TaskManagementDto> modelListToDtoList(List<TaskManagement> models);
 
+   @Mapping(target = "taskId", source = "task.id")
    TaskActivityDto activityToDto(TaskActivity activity);
    List<TaskActivityDto> activityListToDtoList(List<TaskActivity> activities);
 
+   @Mapping(target = "taskId", source = "task.id")
    TaskCommentDto commentToDto(TaskComment comment);
    List<TaskCommentDto> commentListToDtoList(List<TaskComment> comments);
+
+   List<TaskActivityDto> archivedActivityListToDtoList(List<ArchivedTaskActivity> activities);
+   List<TaskCommentDto> archivedCommentListToDtoList(List<ArchivedTaskComment> comments);
 }
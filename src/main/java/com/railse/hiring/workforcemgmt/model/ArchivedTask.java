@@ -0,0 +1,38 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+// A closed task moved out of task_management by TaskArchiver, keeping its id. Only read when a caller asks for archived tasks.
+@Data
+@Entity
+@Immutable
+@Table(name = "task_management_archive", indexes = {
+        // Same id-ordered window query as task_list_view
+        @Index(name = "idx_task_archive_assignee_id", columnList = "assignee_id, id, status, task_deadline_time"),
+        @Index(name = "idx_task_archive_reference", columnList = "reference_id, reference_type")
+})
+public class ArchivedTask {
+    @Id
+    private Long id;
+    private Long referenceId;
+    @Enumerated(EnumType.STRING)
+    private ReferenceType referenceType;
+    @Enumerated(EnumType.STRING)
+    private Task task;
+    private String description;
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+    private Long assigneeId;
+    private Long taskDeadlineTime;
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+    private Long updatedAt;
+    private Long version;
+    private Long archivedAt;
+}
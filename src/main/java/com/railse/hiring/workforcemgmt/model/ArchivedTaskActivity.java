@@ -0,0 +1,26 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import com.railse.hiring.workforcemgmt.model.enums.ActivityType;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// task_activity row of an archived task; taskId points into task_management_archive
+@Data
+@Entity
+@Immutable
+@Table(name = "task_activity_archive", indexes = {
+        @Index(name = "idx_task_activity_archive_task", columnList = "task_id")
+})
+public class ArchivedTaskActivity {
+    @Id
+    private Long id;
+    private Long taskId;
+    @Enumerated(EnumType.STRING)
+    private ActivityType activityType;
+    private String description;
+    private Long userId;
+    private LocalDateTime timestamp;
+}
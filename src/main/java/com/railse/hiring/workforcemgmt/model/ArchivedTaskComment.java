@@ -0,0 +1,23 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// task_comment row of an archived task; taskId points into task_management_archive
+@Data
+@Entity
+@Immutable
+@Table(name = "task_comment_archive", indexes = {
+        @Index(name = "idx_task_comment_archive_task", columnList = "task_id")
+})
+public class ArchivedTaskComment {
+    @Id
+    private Long id;
+    private Long taskId;
+    private String commentText;
+    private Long userId;
+    private LocalDateTime timestamp;
+}
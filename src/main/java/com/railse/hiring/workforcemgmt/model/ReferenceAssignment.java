@@ -0,0 +1,23 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import jakarta.persistence.*;
+import lombok.Data;
+
+// One row per reference; its version is bumped by every assignByReference so concurrent reassignments of the same reference conflict
+@Data
+@Entity
+@Table(name = "reference_assignment", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reference_assignment_reference", columnNames = {"reference_id", "reference_type"})
+})
+public class ReferenceAssignment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long referenceId;
+    @Enumerated(EnumType.STRING)
+    private ReferenceType referenceType;
+    private Long assigneeId;
+    @Version
+    private Long version;
+}
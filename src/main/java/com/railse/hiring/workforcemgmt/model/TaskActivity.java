@@ -3,6 +3,8 @@ package com.railse.hiring.workforcemgmt.model;
 import com.railse.hiring.workforcemgmt.model.enums.ActivityType;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -14,8 +16,10 @@ public class TaskActivity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private TaskManagement task;
 
     @Enumerated(EnumType.STRING)
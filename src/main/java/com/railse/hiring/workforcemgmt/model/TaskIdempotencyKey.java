@@ -0,0 +1,46 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+// One row per accepted ingestion key, pointing at the task it created or was merged into; the primary key is the dedupe backstop
+@Data
+@Entity
+@Table(name = "task_idempotency_key", indexes = {
+        @Index(name = "idx_task_idempotency_key_created_at", columnList = "created_at")
+})
+public class TaskIdempotencyKey implements Persistable<String> {
+    public static final int MAX_KEY_LENGTH = 128;
+
+    @Id
+    @Column(length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+    private Long taskId;
+    private Long createdAt;
+
+    // Assigned ids: without this save() would SELECT every key before inserting it
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+// Read model for the list endpoints: only the columns a list row shows, no child collections.
+// Written by TaskListProjection in the same transaction as task_management; never modified through JPA.
+@Data
+@Entity
+@Immutable
+@Table(name = "task_list_view", indexes = {
+        // Window pages read each assignee's rows in id order from the cursor on, checking status and deadline in the index;
+        // several assignees still need a top-N merge, so this keeps deep pages from rescanning, not every page equally cheap
+        @Index(name = "idx_task_list_view_assignee_id", columnList = "assignee_id, id, status, task_deadline_time"),
+        @Index(name = "idx_task_list_view_priority_id", columnList = "priority, id")
+})
+public class TaskListView {
+    @Id
+    private Long id;
+    private Long referenceId;
+    @Enumerated(EnumType.STRING)
+    private ReferenceType referenceType;
+    @Enumerated(EnumType.STRING)
+    private Task task;
+    private String description;
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+    private Long assigneeId;
+    private Long taskDeadlineTime;
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+    private Long version;
+}
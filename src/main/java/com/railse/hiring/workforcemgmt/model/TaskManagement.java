@@ -7,15 +7,24 @@ import com.railse.hiring.workforcemgmt.model.enums.Task;
 import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
-import java.util.List;
+import java.util.Set;
 
 @Data
 @Entity
-@Table(name = "task_management")
+// List reads go to task_list_view; the assignee index stays for the assignee/status/deadline filters of the aggregates
+@Table(name = "task_management", indexes = {
+        @Index(name = "idx_task_assignee_status_deadline", columnList = "assignee_id, status, task_deadline_time"),
+        @Index(name = "idx_task_reference", columnList = "reference_id, reference_type"),
+        @Index(name = "idx_task_status_updated_at", columnList = "status, updated_at")
+})
 public class TaskManagement {
+    // Pooled sequence so Hibernate can hand out ids in blocks and batch the inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_management_seq")
+    @SequenceGenerator(name = "task_management_seq", sequenceName = "task_management_seq", allocationSize = 50)
     private Long id;
     private Long referenceId;
     @Enumerated(EnumType.STRING)
@@ -29,10 +38,29 @@ public class TaskManagement {
     private Long taskDeadlineTime;
     @Enumerated(EnumType.STRING)
     private Priority priority;
+    // Epoch millis of the last write; set-based updates set it themselves. TaskArchiver ages closed tasks by it.
+    private Long updatedAt;
+    // Optimistic lock: Hibernate checks and bumps it on every entity update; the versioned batch update in
+    // TaskRepository and the set-based cancel in assignByReference bump it themselves
+    @Version
+    private Long version;
 
+    // Sets rather than bags so both collections can be fetch-joined by TaskRepository.findWithDetailsById in one query
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<TaskActivity> activities;
+    @OrderBy("timestamp ASC")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<TaskActivity> activities;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<TaskComment> comments;
+    @OrderBy("timestamp ASC")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<TaskComment> comments;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = System.currentTimeMillis();
+    }
 }
@@ -0,0 +1,33 @@
+package com.railse.hiring.workforcemgmt.model;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+// A task's state as of one committed change, waiting to be relayed downstream. Written by TaskOutbox in the
+// writing transaction and deleted by TaskOutboxRelay once published; the id orders changes and identifies them to consumers.
+@Data
+@Entity
+@Table(name = "task_outbox")
+public class TaskOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long taskId;
+    private Long referenceId;
+    @Enumerated(EnumType.STRING)
+    private ReferenceType referenceType;
+    @Enumerated(EnumType.STRING)
+    private Task task;
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+    private Long assigneeId;
+    private Long taskDeadlineTime;
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+    private Long version;
+    private Long createdAt;
+}
@@ -3,9 +3,11 @@ package com.railse.hiring.workforcemgmt.model.enums;
 import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Getter
 public enum Task {
@@ -14,6 +16,9 @@ public enum Task {
    ARRANGE_PICKUP(List.of(ReferenceType.ORDER), "Arrange Pickup"),
    COLLECT_PAYMENT(List.of(ReferenceType.ORDER), "Collect Payment");
 
+   // Built once from the constants above; lookups return these shared immutable lists
+   private static final Map<ReferenceType, List<Task>> TASKS_BY_REFERENCE_TYPE = buildTasksByReferenceType();
+
    private final List<ReferenceType> applicableReferenceTypes;
    private final String view;
 
@@ -23,8 +28,22 @@ public enum Task {
    }
 
    public static List<Task> getTasksByReferenceType(ReferenceType referenceType) {
-       return Arrays.stream(Task.values())
-               .filter(task -> task.getApplicableReferenceTypes().contains(referenceType))
-               .collect(Collectors.toList());
+       return TASKS_BY_REFERENCE_TYPE.getOrDefault(referenceType, List.of());
+   }
+
+   public static Map<ReferenceType, List<Task>> getTasksByReferenceType() {
+       return TASKS_BY_REFERENCE_TYPE;
+   }
+
+   private static Map<ReferenceType, List<Task>> buildTasksByReferenceType() {
+       Map<ReferenceType, List<Task>> tasks = new EnumMap<>(ReferenceType.class);
+       for (ReferenceType referenceType : ReferenceType.values()) {
+           tasks.put(referenceType, new ArrayList<>());
+       }
+       for (Task task : values()) {
+           task.applicableReferenceTypes.forEach(referenceType -> tasks.get(referenceType).add(task));
+       }
+       tasks.replaceAll((referenceType, list) -> List.copyOf(list));
+       return Collections.unmodifiableMap(tasks);
    }
-}
\ No newline at end of file
+}
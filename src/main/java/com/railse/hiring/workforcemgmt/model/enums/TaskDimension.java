@@ -0,0 +1,26 @@
+package com.railse.hiring.workforcemgmt.model.enums;
+
+// Task columns the aggregation API can group by: the entity attribute it groups on and its key in the response
+public enum TaskDimension {
+    STATUS("status", "status"),
+    PRIORITY("priority", "priority"),
+    TASK("task", "task"),
+    REFERENCE_TYPE("referenceType", "reference_type"),
+    ASSIGNEE_ID("assigneeId", "assignee_id");
+
+    private final String attribute;
+    private final String key;
+
+    TaskDimension(String attribute, String key) {
+        this.attribute = attribute;
+        this.key = key;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
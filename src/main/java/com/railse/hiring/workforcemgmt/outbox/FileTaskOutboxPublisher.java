@@ -0,0 +1,50 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends each batch as NDJSON to a local file and forces it to disk before the batch counts as published
+@Component
+@ConditionalOnProperty(name = "workforcemgmt.outbox.publisher", havingValue = "file")
+public class FileTaskOutboxPublisher implements TaskOutboxPublisher {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileTaskOutboxPublisher(ObjectMapper objectMapper,
+                                   @Value("${workforcemgmt.outbox.file:./task-outbox.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public synchronized void publish(List<TaskOutboxMessage> messages) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (TaskOutboxMessage message : messages) {
+                lines.write(objectMapper.writeValueAsBytes(message));
+                lines.write('\n');
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append task outbox batch to " + path, e);
+        }
+    }
+}
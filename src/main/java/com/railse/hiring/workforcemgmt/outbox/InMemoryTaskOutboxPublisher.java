@@ -0,0 +1,36 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// Stand-in publisher for tests and local runs: keeps the most recent messages in memory
+@Component
+@ConditionalOnProperty(name = "workforcemgmt.outbox.publisher", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskOutboxPublisher implements TaskOutboxPublisher {
+
+    private final int capacity;
+    private final Deque<TaskOutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryTaskOutboxPublisher(@Value("${workforcemgmt.outbox.memory-capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<TaskOutboxMessage> batch) {
+        for (TaskOutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    public synchronized List<TaskOutboxMessage> getPublished() {
+        return List.copyOf(messages);
+    }
+}
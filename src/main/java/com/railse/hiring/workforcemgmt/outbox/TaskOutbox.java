@@ -0,0 +1,42 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Appends one outbox row per changed task. Write paths call {@link #append} inside their own transaction right after
+ * the list projection is refreshed, so a change and its outbox row commit or roll back together. Rows are copied
+ * from task_list_view with one set-based INSERT ... SELECT per chunk of ids.
+ */
+@Component
+public class TaskOutbox {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO task_outbox (task_id, reference_id, reference_type, task, status, " +
+            "assignee_id, task_deadline_time, priority, version, created_at) SELECT id, reference_id, reference_type, task, status, " +
+            "assignee_id, task_deadline_time, priority, version, ? FROM task_list_view WHERE id IN (%s) ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Must run inside the writing transaction, after TaskListProjection.refresh for the same ids
+    public void append(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        long now = System.currentTimeMillis();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(now);
+            args.addAll(chunk);
+            jdbcTemplate.update(String.format(INSERT_SQL, String.join(",", Collections.nCopies(chunk.size(), "?"))), args.toArray());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+
+// What downstream consumers receive per change. Delivery is at-least-once, so consumers dedupe on eventId
+// and can drop anything older than the task version they already hold.
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TaskOutboxMessage(long eventId, long taskId, Long referenceId, ReferenceType referenceType, Task task,
+                                TaskStatus status, Long assigneeId, Long taskDeadlineTime, Priority priority, Long version, long createdAt) {
+}
@@ -0,0 +1,11 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers relayed task changes to downstream systems. A batch is deleted from the outbox only after publish
+ * returns, so an implementation must throw if any message may not have been delivered; the batch is then retried.
+ */
+public interface TaskOutboxPublisher {
+    void publish(List<TaskOutboxMessage> messages);
+}
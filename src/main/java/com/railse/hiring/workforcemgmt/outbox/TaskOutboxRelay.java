@@ -0,0 +1,143 @@
+package com.railse.hiring.workforcemgmt.outbox;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Drains task_outbox oldest-first in batches through the configured {@link TaskOutboxPublisher}. A batch is deleted
+ * only after it was published, so a crash or a failing publisher means redelivery, never loss. Because published
+ * rows are deleted rather than skipped past with a cursor, rows whose transaction committed out of id order are
+ * still picked up on the next pass.
+ */
+@Slf4j
+@Component
+public class TaskOutboxRelay {
+
+    private static final String SELECT_SQL = "SELECT id, task_id, reference_id, reference_type, task, status, assignee_id, " +
+            "task_deadline_time, priority, version, created_at FROM task_outbox ORDER BY id LIMIT ?";
+    private static final RowMapper<TaskOutboxMessage> MESSAGE_MAPPER = TaskOutboxRelay::toMessage;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskOutboxPublisher publisher;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer deliveryLag;
+
+    private volatile long pending;
+    private volatile long oldestPendingCreatedAt;
+
+    public TaskOutboxRelay(JdbcTemplate jdbcTemplate, TaskOutboxPublisher publisher, MeterRegistry meterRegistry,
+                           @Value("${workforcemgmt.outbox.batch-size:500}") int batchSize,
+                           @Value("${workforcemgmt.outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.published = Counter.builder("workforcemgmt.outbox.published")
+                .description("Outbox messages handed to the publisher")
+                .register(meterRegistry);
+        this.failures = Counter.builder("workforcemgmt.outbox.failures")
+                .description("Relay batches that failed and will be retried")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("workforcemgmt.outbox.delivery.lag")
+                .description("Time from the committing write to the message being published")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("workforcemgmt.outbox.pending", this, TaskOutboxRelay::getPending)
+                .description("Outbox rows not yet published, as of the last relay pass")
+                .register(meterRegistry);
+        Gauge.builder("workforcemgmt.outbox.lag", this, relay -> relay.getLag().toMillis())
+                .description("Age in milliseconds of the oldest unpublished outbox row, as of the last relay pass")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // Returns the number of messages published in this pass
+    @Scheduled(fixedDelayString = "${workforcemgmt.outbox.relay-interval-ms:500}")
+    public synchronized int relay() {
+        int relayed = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<TaskOutboxMessage> messages = jdbcTemplate.query(SELECT_SQL, MESSAGE_MAPPER, batchSize);
+                if (messages.isEmpty()) {
+                    break;
+                }
+                publisher.publish(messages);
+                long now = System.currentTimeMillis();
+                messages.forEach(message -> deliveryLag.record(Duration.ofMillis(Math.max(0L, now - message.createdAt()))));
+                delete(messages);
+                published.increment(messages.size());
+                relayed += messages.size();
+                if (messages.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Database or publisher failure; whatever was not deleted is sent again
+            failures.increment();
+            log.warn("Task outbox relay failed after {} messages, retrying next pass", relayed, e);
+        }
+        updateBacklog();
+        return relayed;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public Duration getLag() {
+        long oldest = oldestPendingCreatedAt;
+        return oldest == 0L ? Duration.ZERO : Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - oldest));
+    }
+
+    private void delete(List<TaskOutboxMessage> messages) {
+        Object[] ids = messages.stream().map(TaskOutboxMessage::eventId).toArray();
+        jdbcTemplate.update("DELETE FROM task_outbox WHERE id IN (" + String.join(",", Collections.nCopies(ids.length, "?")) + ")", ids);
+    }
+
+    private void updateBacklog() {
+        try {
+            jdbcTemplate.query("SELECT COUNT(*), MIN(created_at) FROM task_outbox", (ResultSet rs) -> {
+                rs.next();
+                pending = rs.getLong(1);
+                oldestPendingCreatedAt = rs.getLong(2);
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.debug("Cannot read task outbox backlog", e);
+        }
+    }
+
+    private static TaskOutboxMessage toMessage(ResultSet rs, int rowNum) throws SQLException {
+        return new TaskOutboxMessage(rs.getLong("id"), rs.getLong("task_id"), rs.getObject("reference_id", Long.class),
+                enumOf(ReferenceType.class, rs.getString("reference_type")), enumOf(Task.class, rs.getString("task")),
+                enumOf(TaskStatus.class, rs.getString("status")), rs.getObject("assignee_id", Long.class),
+                rs.getObject("task_deadline_time", Long.class), enumOf(Priority.class, rs.getString("priority")),
+                rs.getObject("version", Long.class), rs.getLong("created_at"));
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+}
@@ -0,0 +1,137 @@
+package com.railse.hiring.workforcemgmt.overdue;
+
+import com.railse.hiring.workforcemgmt.dto.OverdueTaskDto;
+import com.railse.hiring.workforcemgmt.event.SnapshotVersions;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskOverdueEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks ASSIGNED tasks with a deadline in a min-heap ordered by deadline. The scheduled scan only looks at the
+ * head of the heap, moves every task whose deadline has passed to the overdue set and publishes a TaskOverdueEvent
+ * for it. Status, assignee and deadline changes arrive as TaskChangedEvent snapshots; superseded heap entries are
+ * skipped when they surface instead of being searched for and removed. A snapshot older than one already applied for
+ * the same task is ignored.
+ */
+@Component
+public class OverdueTaskTracker {
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PriorityQueue<DeadlineEntry> deadlines = new PriorityQueue<>(
+            Comparator.comparingLong(DeadlineEntry::deadline).thenComparingLong(DeadlineEntry::taskId));
+    // ASSIGNED tasks whose deadline has not passed yet; a heap entry is live only if it matches the task here
+    private final Long2ObjectOpenHashMap<TaskSnapshot> pending = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<TaskSnapshot> overdue = new Long2ObjectOpenHashMap<>();
+    private final SnapshotVersions versions = new SnapshotVersions();
+
+    public OverdueTaskTracker(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Loading under the lock makes concurrent writes wait and apply on top of the rebuilt state
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            List<TaskSnapshot> assigned = taskRepository.findAssignedTaskSnapshotsWithDeadline();
+            deadlines.clear();
+            pending.clear();
+            overdue.clear();
+            versions.clear();
+            assigned.forEach(this::apply);
+        }
+        // Tasks that went overdue while the service was down are reported on the first scan
+        scan();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        event.getTasks().forEach(this::apply);
+    }
+
+    @Scheduled(fixedDelayString = "${workforcemgmt.overdue.scan-interval-ms:1000}")
+    public void scan() {
+        scan(System.currentTimeMillis());
+    }
+
+    void scan(long now) {
+        List<TaskOverdueEvent> due = new ArrayList<>();
+        synchronized (this) {
+            while (!deadlines.isEmpty() && deadlines.peek().deadline() <= now) {
+                DeadlineEntry entry = deadlines.poll();
+                TaskSnapshot task = pending.get(entry.taskId());
+                if (task == null || task.getTaskDeadlineTime() != entry.deadline()) {
+                    continue;
+                }
+                pending.remove(entry.taskId());
+                overdue.put(entry.taskId(), task);
+                due.add(new TaskOverdueEvent(task.getId(), task.getAssigneeId(), task.getTaskDeadlineTime()));
+            }
+        }
+        due.forEach(eventPublisher::publishEvent);
+    }
+
+    // Served from the overdue set only, earliest deadline first
+    public synchronized List<OverdueTaskDto> findOverdue(Collection<Long> assigneeIds) {
+        Set<Long> assigneeFilter = assigneeIds == null || assigneeIds.isEmpty() ? null : Set.copyOf(assigneeIds);
+        return overdue.values().stream()
+                .filter(task -> assigneeFilter == null || assigneeFilter.contains(task.getAssigneeId()))
+                .sorted(Comparator.comparingLong(TaskSnapshot::getTaskDeadlineTime).thenComparingLong(TaskSnapshot::getId))
+                .map(task -> new OverdueTaskDto(task.getId(), task.getAssigneeId(), task.getPriority(), task.getTaskDeadlineTime()))
+                .collect(Collectors.toList());
+    }
+
+    private void apply(TaskSnapshot task) {
+        if (!versions.advance(task)) {
+            return;
+        }
+        long taskId = task.getId();
+        TaskSnapshot wasPending = pending.remove(taskId);
+        TaskSnapshot wasOverdue = overdue.remove(taskId);
+        if (task.getStatus() != TaskStatus.ASSIGNED || task.getTaskDeadlineTime() == null) {
+            return;
+        }
+        // Same deadline as before: keep its place, so an already reported task is not reported again
+        if (wasOverdue != null && wasOverdue.getTaskDeadlineTime().equals(task.getTaskDeadlineTime())) {
+            overdue.put(taskId, task);
+            return;
+        }
+        pending.put(taskId, task);
+        if (wasPending != null && wasPending.getTaskDeadlineTime().equals(task.getTaskDeadlineTime())) {
+            return;
+        }
+        // Stays in the heap until the next scan, even if already past due, so it still gets its overdue event
+        deadlines.add(new DeadlineEntry(task.getTaskDeadlineTime(), taskId));
+        compactIfStale();
+    }
+
+    // Superseded entries only leave the heap when they reach the head; rebuild it once they dominate
+    private void compactIfStale() {
+        if (deadlines.size() > 1024 && deadlines.size() > 2 * pending.size()) {
+            deadlines.clear();
+            pending.values().forEach(task -> deadlines.add(new DeadlineEntry(task.getTaskDeadlineTime(), task.getId())));
+        }
+    }
+
+    private record DeadlineEntry(long deadline, long taskId) {
+    }
+}
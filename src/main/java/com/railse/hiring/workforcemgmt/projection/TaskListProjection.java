@@ -0,0 +1,59 @@
+package com.railse.hiring.workforcemgmt.projection;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps task_list_view in step with task_management. Write paths call {@link #refresh} with the ids they touched,
+ * inside their own transaction, so the read model commits or rolls back with the write. Rows are copied with one
+ * set-based MERGE per chunk of ids, which also covers changes made by bulk JPQL updates that bypass the entities.
+ */
+@Component
+public class TaskListProjection {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String COLUMNS =
+            "id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority, version";
+    private static final String MERGE_SQL = "MERGE INTO task_list_view v USING (SELECT " + COLUMNS +
+            " FROM task_management WHERE id IN (%s)) t ON v.id = t.id " +
+            "WHEN MATCHED THEN UPDATE SET reference_id = t.reference_id, reference_type = t.reference_type, task = t.task, " +
+            "description = t.description, status = t.status, assignee_id = t.assignee_id, " +
+            "task_deadline_time = t.task_deadline_time, priority = t.priority, version = t.version " +
+            "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (t.id, t.reference_id, t.reference_type, t.task, " +
+            "t.description, t.status, t.assignee_id, t.task_deadline_time, t.priority, t.version)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public TaskListProjection(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    // Must run inside the writing transaction
+    public void refresh(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        // Pending entity changes have to reach task_management before they are copied
+        entityManager.flush();
+        List<Long> ids = List.copyOf(taskIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            jdbcTemplate.update(String.format(MERGE_SQL, String.join(",", Collections.nCopies(chunk.size(), "?"))), chunk.toArray());
+        }
+    }
+
+    // Full copy, for data loaded behind the application's back (seed scripts, benchmarks)
+    @Transactional
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM task_list_view");
+        jdbcTemplate.update("INSERT INTO task_list_view (" + COLUMNS + ") SELECT " + COLUMNS + " FROM task_management");
+    }
+}
@@ -0,0 +1,12 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.model.ArchivedTaskActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskActivityRepository extends JpaRepository<ArchivedTaskActivity, Long> {
+    List<ArchivedTaskActivity> findByTaskIdOrderByTimestampAsc(Long taskId);
+}
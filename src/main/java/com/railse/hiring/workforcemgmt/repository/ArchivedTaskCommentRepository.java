@@ -0,0 +1,12 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.model.ArchivedTaskComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskCommentRepository extends JpaRepository<ArchivedTaskComment, Long> {
+    List<ArchivedTaskComment> findByTaskIdOrderByTimestampAsc(Long taskId);
+}
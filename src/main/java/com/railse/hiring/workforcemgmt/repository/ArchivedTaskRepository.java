@@ -0,0 +1,50 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.model.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Archived tasks, read straight into DTOs; only queried when a caller explicitly asks for archived data
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+    String DTO = "SELECT new com.railse.hiring.workforcemgmt.dto.TaskManagementDto(" +
+            "a.id, a.referenceId, a.referenceType, a.task, a.description, a.status, a.assigneeId, a.taskDeadlineTime, a.priority, a.version) " +
+            "FROM ArchivedTask a ";
+
+    @Query(DTO + "WHERE a.id = :id")
+    Optional<TaskManagementDto> findDtoById(@Param("id") Long id);
+
+    String ACTIVE_IN_WINDOW = "WHERE a.assigneeId IN :assigneeIds " +
+            "AND a.status <> com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED " +
+            "AND ((a.taskDeadlineTime >= :startDate AND a.taskDeadlineTime <= :endDate) " +
+            "OR (a.taskDeadlineTime < :startDate AND a.status = com.railse.hiring.workforcemgmt.model.enums.TaskStatus.ASSIGNED)) ";
+
+    // Same window as TaskListViewRepository.findActiveByAssigneeIdInAndDeadlineWindowAfter
+    @Query(DTO + ACTIVE_IN_WINDOW + "AND a.id > :cursor ORDER BY a.id")
+    List<TaskManagementDto> findActiveByAssigneeIdInAndDeadlineWindowAfter(@Param("assigneeIds") List<Long> assigneeIds,
+                                                                           @Param("startDate") Long startDate,
+                                                                           @Param("endDate") Long endDate,
+                                                                           @Param("cursor") Long cursor,
+                                                                           Limit limit);
+
+    // Same window as TaskListViewRepository.streamActiveByAssigneeIdInAndDeadlineWindow, for exports that include archived tasks
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(DTO + ACTIVE_IN_WINDOW + "ORDER BY a.id")
+    Stream<TaskManagementDto> streamActiveByAssigneeIdInAndDeadlineWindow(@Param("assigneeIds") List<Long> assigneeIds,
+                                                                         @Param("startDate") Long startDate,
+                                                                         @Param("endDate") Long endDate);
+}
@@ -0,0 +1,16 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.ReferenceAssignment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReferenceAssignmentRepository extends JpaRepository<ReferenceAssignment, Long> {
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<ReferenceAssignment> findByReferenceIdAndReferenceType(Long referenceId, ReferenceType referenceType);
+}
@@ -0,0 +1,15 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.dto.DeadlineBucketDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskGroupCountDto;
+import com.railse.hiring.workforcemgmt.model.enums.TaskDimension;
+
+import java.util.List;
+
+// GROUP BY counts over task_management; the grouped columns vary per call, so the JPQL is assembled at runtime
+public interface TaskAggregationRepository {
+    List<TaskGroupCountDto> countGroupedBy(List<TaskDimension> dimensions, TaskAggregationRequest filter);
+
+    List<DeadlineBucketDto> countByDeadlineBucket(long bucketMs, TaskAggregationRequest filter);
+}
@@ -0,0 +1,86 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.dto.DeadlineBucketDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskGroupCountDto;
+import com.railse.hiring.workforcemgmt.model.enums.TaskDimension;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Only enum attribute names and a validated number are spliced into the JPQL; filter values are bound as parameters
+public class TaskAggregationRepositoryImpl implements TaskAggregationRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskGroupCountDto> countGroupedBy(List<TaskDimension> dimensions, TaskAggregationRequest filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+        String columns = dimensions.stream().map(dimension -> "t." + dimension.getAttribute()).collect(Collectors.joining(", "));
+        String jpql = dimensions.isEmpty()
+                ? "SELECT COUNT(t) FROM TaskManagement t" + where
+                : "SELECT " + columns + ", COUNT(t) FROM TaskManagement t" + where + " GROUP BY " + columns + " ORDER BY " + columns;
+        List<TaskGroupCountDto> groups = new ArrayList<>();
+        for (Tuple row : query(jpql, parameters).getResultList()) {
+            Map<String, Object> key = new LinkedHashMap<>();
+            for (int i = 0; i < dimensions.size(); i++) {
+                key.put(dimensions.get(i).getKey(), row.get(i));
+            }
+            groups.add(new TaskGroupCountDto(key, row.get(dimensions.size(), Long.class)));
+        }
+        return groups;
+    }
+
+    @Override
+    public List<DeadlineBucketDto> countByDeadlineBucket(long bucketMs, TaskAggregationRequest filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+        // Inlined rather than bound: the select and group-by expressions must be identical for the database to match them
+        String bucket = "(t.taskDeadlineTime / " + bucketMs + ") * " + bucketMs;
+        String jpql = "SELECT " + bucket + ", COUNT(t) FROM TaskManagement t" + where
+                + (where.isEmpty() ? " WHERE" : " AND") + " t.taskDeadlineTime IS NOT NULL"
+                + " GROUP BY " + bucket + " ORDER BY " + bucket;
+        List<DeadlineBucketDto> buckets = new ArrayList<>();
+        for (Tuple row : query(jpql, parameters).getResultList()) {
+            buckets.add(new DeadlineBucketDto(row.get(0, Number.class).longValue(), row.get(1, Long.class)));
+        }
+        return buckets;
+    }
+
+    private TypedQuery<Tuple> query(String jpql, Map<String, Object> parameters) {
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static String where(TaskAggregationRequest filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getAssigneeIds() != null && !filter.getAssigneeIds().isEmpty()) {
+            conditions.add("t.assigneeId IN :assigneeIds");
+            parameters.put("assigneeIds", filter.getAssigneeIds());
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            conditions.add("t.status IN :statuses");
+            parameters.put("statuses", filter.getStatuses());
+        }
+        if (filter.getStartDate() != null) {
+            conditions.add("t.taskDeadlineTime >= :startDate");
+            parameters.put("startDate", filter.getStartDate());
+        }
+        if (filter.getEndDate() != null) {
+            conditions.add("t.taskDeadlineTime <= :endDate");
+            parameters.put("endDate", filter.getEndDate());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
@@ -1,12 +1,20 @@
 package com.railse.hiring.workforcemgmt.repository;
 
 import com.railse.hiring.workforcemgmt.model.TaskComment;
+import com.railse.hiring.workforcemgmt.search.TaskText;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
     List<TaskComment> findByTaskIdOrderByTimestampAsc(Long taskId);
+
+    // Text only, for the search indexer
+    @Query("SELECT new com.railse.hiring.workforcemgmt.search.TaskText(c.task.id, c.commentText) FROM TaskComment c WHERE c.task.id IN :taskIds")
+    List<TaskText> findTextsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -0,0 +1,28 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.model.TaskIdempotencyKey;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskIdempotencyKeyRepository extends JpaRepository<TaskIdempotencyKey, String> {
+    @Query("SELECT k.idempotencyKey AS idempotencyKey, k.taskId AS taskId FROM TaskIdempotencyKey k WHERE k.idempotencyKey IN :keys")
+    List<ExistingKey> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    // Newest first, to seed the in-memory filter with the most recent window
+    @Query("SELECT k.idempotencyKey FROM TaskIdempotencyKey k ORDER BY k.createdAt DESC")
+    List<String> findRecentKeys(Limit limit);
+
+    // An accepted key and the task its item created or was merged into
+    interface ExistingKey {
+        String getIdempotencyKey();
+
+        Long getTaskId();
+    }
+}
@@ -0,0 +1,57 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.model.TaskListView;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+// List queries read task_list_view straight into DTOs: no entities, no persistence context, no dirty checking
+@Repository
+public interface TaskListViewRepository extends JpaRepository<TaskListView, Long> {
+    String DTO = "SELECT new com.railse.hiring.workforcemgmt.dto.TaskManagementDto(" +
+            "v.id, v.referenceId, v.referenceType, v.task, v.description, v.status, v.assigneeId, v.taskDeadlineTime, v.priority, v.version) " +
+            "FROM TaskListView v ";
+    String ACTIVE_IN_WINDOW = "WHERE v.assigneeId IN :assigneeIds " +
+            "AND v.status <> com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED " +
+            "AND ((v.taskDeadlineTime >= :startDate AND v.taskDeadlineTime <= :endDate) " +
+            "OR (v.taskDeadlineTime < :startDate AND v.status = com.railse.hiring.workforcemgmt.model.enums.TaskStatus.ASSIGNED)) ";
+
+    // Non-cancelled tasks due inside [startDate, endDate], plus ASSIGNED tasks already overdue at startDate, keyset-paged by id.
+    // Served by idx_task_list_view_assignee_id; the deadline range can't bound the scan because the order is by id
+    @Query(DTO + ACTIVE_IN_WINDOW + "AND v.id > :cursor ORDER BY v.id")
+    List<TaskManagementDto> findActiveByAssigneeIdInAndDeadlineWindowAfter(@Param("assigneeIds") List<Long> assigneeIds,
+                                                                           @Param("startDate") Long startDate,
+                                                                           @Param("endDate") Long endDate,
+                                                                           @Param("cursor") Long cursor,
+                                                                           Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(DTO + ACTIVE_IN_WINDOW + "ORDER BY v.id")
+    Stream<TaskManagementDto> streamActiveByAssigneeIdInAndDeadlineWindow(@Param("assigneeIds") List<Long> assigneeIds,
+                                                                         @Param("startDate") Long startDate,
+                                                                         @Param("endDate") Long endDate);
+
+    @Query(DTO + "WHERE v.priority = :priority AND v.id > :cursor ORDER BY v.id")
+    List<TaskManagementDto> findByPriorityAfter(@Param("priority") Priority priority, @Param("cursor") Long cursor, Limit limit);
+
+    @Query(DTO + "WHERE v.id IN :ids")
+    List<TaskManagementDto> findByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset walk over every row, for rebuilding derived indexes
+    @Query(DTO + "WHERE v.id > :cursor ORDER BY v.id")
+    List<TaskManagementDto> findAfter(@Param("cursor") Long cursor, Limit limit);
+}
@@ -1,16 +1,61 @@
 package com.railse.hiring.workforcemgmt.repository;
 
 import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
 import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskManagement, Long> {
+public interface TaskRepository extends JpaRepository<TaskManagement, Long>, TaskAggregationRepository,
+        TaskVersionedUpdateRepository {
+    // Task, activities and comments in a single fetch-join query
+    @EntityGraph(attributePaths = {"activities", "comments"})
+    Optional<TaskManagement> findWithDetailsById(Long id);
+
     List<TaskManagement> findByReferenceIdAndReferenceType(Long referenceId, ReferenceType referenceType);
 
     List<TaskManagement> findByAssigneeIdIn(List<Long> assigneeIds);
     List<TaskManagement> findByPriority(com.railse.hiring.workforcemgmt.model.enums.Priority priority);
-}
\ No newline at end of file
+
+    // Re-checks the status as each row is written, so a task closed concurrently since its id was read is left alone;
+    // a count below ids.size() means the caller lost such a race
+    @Modifying
+    @Query("UPDATE TaskManagement t SET t.status = com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED, " +
+            "t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.status NOT IN (com.railse.hiring.workforcemgmt.model.enums.TaskStatus.COMPLETED, com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED)")
+    int cancelOpenByIdIn(@Param("ids") Collection<Long> ids, @Param("updatedAt") Long updatedAt);
+
+    @Query("SELECT t.id FROM TaskManagement t " +
+            "WHERE t.referenceId = :referenceId AND t.referenceType = :referenceType AND t.task IN :tasks " +
+            "AND t.status NOT IN (com.railse.hiring.workforcemgmt.model.enums.TaskStatus.COMPLETED, com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED)")
+    List<Long> findOpenTaskIdsByReference(@Param("referenceId") Long referenceId,
+                                          @Param("referenceType") ReferenceType referenceType,
+                                          @Param("tasks") Collection<Task> tasks);
+
+    // Read after cancelOpenByIdIn in the same transaction, so each snapshot carries the version that update wrote
+    @Query("SELECT new com.railse.hiring.workforcemgmt.event.TaskSnapshot(t.id, t.assigneeId, t.status, t.priority, t.taskDeadlineTime, t.version) " +
+            "FROM TaskManagement t WHERE t.id IN :ids")
+    List<TaskSnapshot> findTaskSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Only the columns the workload index needs, for open tasks; used to rebuild it at startup
+    @Query("SELECT new com.railse.hiring.workforcemgmt.event.TaskSnapshot(t.id, t.assigneeId, t.status, t.priority, t.taskDeadlineTime, t.version) " +
+            "FROM TaskManagement t " +
+            "WHERE t.status NOT IN (com.railse.hiring.workforcemgmt.model.enums.TaskStatus.COMPLETED, com.railse.hiring.workforcemgmt.model.enums.TaskStatus.CANCELLED)")
+    List<TaskSnapshot> findOpenTaskSnapshots();
+
+    // ASSIGNED tasks with a deadline, for the overdue tracker's startup rebuild
+    @Query("SELECT new com.railse.hiring.workforcemgmt.event.TaskSnapshot(t.id, t.assigneeId, t.status, t.priority, t.taskDeadlineTime, t.version) " +
+            "FROM TaskManagement t " +
+            "WHERE t.status = com.railse.hiring.workforcemgmt.model.enums.TaskStatus.ASSIGNED AND t.taskDeadlineTime IS NOT NULL")
+    List<TaskSnapshot> findAssignedTaskSnapshotsWithDeadline();
+}
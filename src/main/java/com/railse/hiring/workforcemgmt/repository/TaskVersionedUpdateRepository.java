@@ -0,0 +1,15 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+
+import java.util.List;
+
+// Conditional writes for the bulk update path: a row is only written if it is still at the version the caller read
+public interface TaskVersionedUpdateRepository {
+    // One JDBC batch; the result holds, per update, whether the row was still at its expected version and got written.
+    // Needs per-statement update counts from the driver: a SUCCESS_NO_INFO count fails the call instead of guessing
+    boolean[] updateIfVersionMatches(List<VersionedUpdate> updates);
+
+    record VersionedUpdate(Long id, long expectedVersion, TaskStatus status, String description, long updatedAt) {
+    }
+}
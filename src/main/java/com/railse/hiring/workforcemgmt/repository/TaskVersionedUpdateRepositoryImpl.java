@@ -0,0 +1,42 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Plain JDBC so every row reports its own update count; a batched entity flush only reports that some row was stale
+public class TaskVersionedUpdateRepositoryImpl implements TaskVersionedUpdateRepository {
+
+    private static final String UPDATE_SQL = "UPDATE task_management SET status = ?, description = ?, updated_at = ?, " +
+            "version = version + 1 WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskVersionedUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] updateIfVersionMatches(List<VersionedUpdate> updates) {
+        boolean[] written = new boolean[updates.size()];
+        if (updates.isEmpty()) {
+            return written;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates.stream()
+                .map(update -> new Object[]{update.status().name(), update.description(), update.updatedAt(), update.id(), update.expectedVersion()})
+                .collect(Collectors.toList()));
+        for (int i = 0; i < counts.length; i++) {
+            // Drivers that rewrite batches (e.g. MySQL with rewriteBatchedStatements=true) or report SUCCESS_NO_INFO can't tell
+            // a stale row from a written one; failing rolls the whole batch back rather than dropping or re-applying updates
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IncorrectUpdateSemanticsDataAccessException("JDBC driver returned SUCCESS_NO_INFO for a versioned update of task "
+                        + updates.get(i).id() + "; conditional bulk updates need a driver that reports per-statement update counts");
+            }
+            written[i] = counts[i] == 1;
+        }
+        return written;
+    }
+}
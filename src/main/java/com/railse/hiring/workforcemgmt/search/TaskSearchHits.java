@@ -0,0 +1,8 @@
+package com.railse.hiring.workforcemgmt.search;
+
+import java.util.List;
+import java.util.Map;
+
+// Matching task ids in score order, plus counts per value of each facet dimension over all matches
+public record TaskSearchHits(long totalHits, List<Long> taskIds, Map<String, Map<String, Long>> facets) {
+}
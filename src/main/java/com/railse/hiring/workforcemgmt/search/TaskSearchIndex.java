@@ -0,0 +1,350 @@
+package com.railse.hiring.workforcemgmt.search;
+
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.event.TaskActivitiesRecordedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.repository.TaskActivityRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskCommentRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskListViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Embedded Lucene index over task descriptions, comment texts and activity descriptions, with status, priority and
+ * task type as facets. Built from task_list_view and the comment/activity tables once the application is ready,
+ * then kept in sync from committed TaskChangedEvents and recorded activity batches. All writes happen on one indexer
+ * thread: changed task ids are coalesced into a pending set, so a burst of writes to the same task re-indexes it
+ * once, and a task that has left task_list_view is removed from the index. Searches see the index as of the last
+ * drained batch.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex implements SmartLifecycle {
+
+    public static final String STATUS = "status";
+    public static final String PRIORITY = "priority";
+    public static final String TASK = "task";
+
+    private static final String ID = "id";
+    private static final String DESCRIPTION = "description";
+    private static final String COMMENT = "comment";
+    private static final String ACTIVITY = "activity";
+    private static final String[] TEXT_FIELDS = {DESCRIPTION, COMMENT, ACTIVITY};
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskListViewRepository taskListViewRepository;
+    private final TaskCommentRepository commentRepository;
+    private final TaskActivityRepository activityRepository;
+    private final String indexPath;
+    private final int facetValueLimit;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile SortedSetDocValuesReaderState facetState;
+    private volatile boolean running;
+
+    public TaskSearchIndex(TaskListViewRepository taskListViewRepository, TaskCommentRepository commentRepository,
+                           TaskActivityRepository activityRepository,
+                           @Value("${workforcemgmt.search.index-path:}") String indexPath,
+                           @Value("${workforcemgmt.search.facet-value-limit:20}") int facetValueLimit) {
+        this.taskListViewRepository = taskListViewRepository;
+        this.commentRepository = commentRepository;
+        this.activityRepository = activityRepository;
+        this.indexPath = indexPath;
+        this.facetValueLimit = facetValueLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (running) {
+            indexer.execute(this::reindexAll);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        enqueue(event.getTaskIds());
+    }
+
+    @EventListener
+    public void onActivitiesRecorded(TaskActivitiesRecordedEvent event) {
+        enqueue(event.getTaskIds());
+    }
+
+    /**
+     * Runs the query over all text fields (blank matches everything), narrowed to the given facet values.
+     * Facet counts cover every match, not just the returned page.
+     */
+    public TaskSearchHits search(String queryText, Map<String, String> filters, int limit) {
+        Query base;
+        try {
+            base = queryText == null || queryText.isBlank()
+                    ? new MatchAllDocsQuery()
+                    : new MultiFieldQueryParser(TEXT_FIELDS, analyzer).parse(queryText);
+        } catch (ParseException e) {
+            throw new InvalidRequestException("Invalid search query: " + e.getMessage());
+        }
+        DrillDownQuery query = new DrillDownQuery(facetsConfig, base);
+        filters.forEach(query::add);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                FacetsCollector facetsCollector = new FacetsCollector();
+                TopDocs topDocs = FacetsCollector.search(searcher, query, Math.max(1, limit), facetsCollector);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> taskIds = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    taskIds.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+                }
+                return new TaskSearchHits(topDocs.totalHits.value, taskIds, countFacets(searcher.getIndexReader(), facetsCollector));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Returns once everything enqueued before the call is searchable
+    public void awaitIndexed() throws InterruptedException {
+        try {
+            indexer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void enqueue(Collection<Long> taskIds) {
+        if (!running || taskIds.isEmpty()) {
+            return;
+        }
+        pending.addAll(taskIds);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexer.execute(this::drainPending);
+        }
+    }
+
+    // Ids added after the flag is cleared schedule another drain, so none are left behind
+    private void drainPending() {
+        drainScheduled.set(false);
+        List<Long> taskIds = new ArrayList<>(pending);
+        pending.removeAll(taskIds);
+        try {
+            for (int from = 0; from < taskIds.size(); from += BATCH_SIZE) {
+                List<Long> chunk = taskIds.subList(from, Math.min(from + BATCH_SIZE, taskIds.size()));
+                List<TaskManagementDto> tasks = taskListViewRepository.findByIdIn(chunk);
+                write(tasks);
+                Set<Long> gone = new HashSet<>(chunk);
+                tasks.forEach(task -> gone.remove(task.getId()));
+                for (Long taskId : gone) {
+                    writer.deleteDocuments(new Term(ID, String.valueOf(taskId)));
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to index {} tasks", taskIds.size(), e);
+        }
+    }
+
+    private void reindexAll() {
+        try {
+            writer.deleteAll();
+            long cursor = 0L;
+            long indexed = 0L;
+            List<TaskManagementDto> page;
+            while (!(page = taskListViewRepository.findAfter(cursor, Limit.of(BATCH_SIZE))).isEmpty()) {
+                write(page);
+                indexed += page.size();
+                cursor = page.get(page.size() - 1).getId();
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            log.info("Rebuilt task search index with {} tasks", indexed);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to rebuild task search index", e);
+        }
+    }
+
+    private void write(List<TaskManagementDto> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Long> taskIds = tasks.stream().map(TaskManagementDto::getId).toList();
+        Map<Long, List<String>> comments = byTask(commentRepository.findTextsByTaskIdIn(taskIds));
+        Map<Long, List<String>> activities = byTask(activityRepository.findTextsByTaskIdIn(taskIds));
+        for (TaskManagementDto task : tasks) {
+            Document document = new Document();
+            document.add(new StringField(ID, String.valueOf(task.getId()), Field.Store.YES));
+            addText(document, DESCRIPTION, task.getDescription());
+            comments.getOrDefault(task.getId(), List.of()).forEach(text -> addText(document, COMMENT, text));
+            activities.getOrDefault(task.getId(), List.of()).forEach(text -> addText(document, ACTIVITY, text));
+            addFacet(document, STATUS, task.getStatus());
+            addFacet(document, PRIORITY, task.getPriority());
+            addFacet(document, TASK, task.getTask());
+            writer.updateDocument(new Term(ID, String.valueOf(task.getId())), facetsConfig.build(document));
+        }
+    }
+
+    private static Map<Long, List<String>> byTask(List<TaskText> texts) {
+        Map<Long, List<String>> byTask = new HashMap<>();
+        for (TaskText text : texts) {
+            byTask.computeIfAbsent(text.taskId(), id -> new ArrayList<>()).add(text.text());
+        }
+        return byTask;
+    }
+
+    private static void addText(Document document, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            document.add(new TextField(field, text, Field.Store.NO));
+        }
+    }
+
+    private static void addFacet(Document document, String dimension, Enum<?> value) {
+        if (value != null) {
+            document.add(new SortedSetDocValuesFacetField(dimension, value.name()));
+        }
+    }
+
+    private Map<String, Map<String, Long>> countFacets(IndexReader reader, FacetsCollector facetsCollector) throws IOException {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        SortedSetDocValuesReaderState state = facetState(reader);
+        Facets facets = state == null ? null : new SortedSetDocValuesFacetCounts(state, facetsCollector);
+        for (String dimension : List.of(STATUS, PRIORITY, TASK)) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            FacetResult result = facets == null ? null : topChildren(facets, dimension);
+            if (result != null) {
+                for (LabelAndValue labelAndValue : result.labelValues) {
+                    values.put(labelAndValue.label, labelAndValue.value.longValue());
+                }
+            }
+            counts.put(dimension, values);
+        }
+        return counts;
+    }
+
+    private FacetResult topChildren(Facets facets, String dimension) throws IOException {
+        try {
+            return facets.getTopChildren(facetValueLimit, dimension);
+        } catch (IllegalArgumentException e) {
+            // No indexed task has a value for this dimension yet
+            return null;
+        }
+    }
+
+    // Ordinal state is per reader; it is rebuilt only after a refresh opened a new one
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        SortedSetDocValuesReaderState state = facetState;
+        if (state == null || state.getReader() != reader) {
+            try {
+                state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+            } catch (IllegalArgumentException e) {
+                // Nothing indexed yet
+                return null;
+            }
+            facetState = state;
+        }
+        return state;
+    }
+
+    @Override
+    public void start() {
+        try {
+            directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+            // Rebuilt from the database on every start, so whatever is on disk is discarded
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open task search index", e);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        indexer.shutdown();
+        try {
+            indexer.awaitTermination(10, TimeUnit.SECONDS);
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Failed to close task search index", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,5 @@
+package com.railse.hiring.workforcemgmt.search;
+
+// One searchable text of a task (a comment or an activity description), as loaded for indexing
+public record TaskText(Long taskId, String text) {
+}
@@ -4,14 +4,13 @@ import com.railse.hiring.workforcemgmt.dto.*;
 
 import java.util.List;
 
+// Write side of the task API; reads go through TaskQueryService
 public interface TaskManagementService {
    List<TaskManagementDto> createTasks(TaskCreateRequest request);
+   TaskIngestResultDto ingestTasks(TaskIngestRequest request);
    List<TaskManagementDto> updateTasks(UpdateTaskRequest request);
+   List<TaskUpdateResultDto> bulkUpdateTasks(UpdateTaskRequest request);
    String assignByReference(AssignByReferenceRequest request);
-   List<TaskManagementDto> fetchTasksByDate(TaskFetchByDateRequest request);
-   TaskManagementDto findTaskById(Long id);
    TaskManagementDto updateTaskPriority(Long id, UpdateTaskPriorityRequest request);
-   List<TaskManagementDto> findTasksByPriority(String priority);
    TaskManagementDto addCommentToTask(Long taskId, AddCommentRequest request);
-   TaskManagementDto getTaskDetails(Long id);
 }
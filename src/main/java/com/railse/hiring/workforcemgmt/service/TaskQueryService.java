@@ -0,0 +1,24 @@
+package com.railse.hiring.workforcemgmt.service;
+
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskFetchByDateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.dto.TaskSearchResultDto;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+
+import java.util.function.Consumer;
+
+public interface TaskQueryService {
+   TaskManagementDto findTaskById(Long id);
+   TaskManagementDto getTaskDetails(Long id);
+   TaskManagementDto getArchivedTaskDetails(Long id);
+   PagedResult<TaskManagementDto> fetchTasksByDate(TaskFetchByDateRequest request);
+   long exportTasksByDate(TaskFetchByDateRequest request, Consumer<TaskManagementDto> sink);
+   PagedResult<TaskManagementDto> findTasksByPriority(String priority, Long cursor, Integer pageSize);
+   TaskSearchResultDto searchTasks(String query, TaskStatus status, Priority priority, Task task, Integer limit);
+   TaskAggregationDto aggregateTasks(TaskAggregationRequest request);
+}
@@ -1,53 +1,219 @@
 package com.railse.hiring.workforcemgmt.service.impl;
 
+import com.railse.hiring.workforcemgmt.activity.ActivityEvent;
+import com.railse.hiring.workforcemgmt.activity.ActivityRecorder;
+import com.railse.hiring.workforcemgmt.catalogue.TaskCatalogue;
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.config.MetricsConfig;
 import com.railse.hiring.workforcemgmt.common.exception.ResourceNotFoundException;
 import com.railse.hiring.workforcemgmt.dto.*;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.ingest.IdempotencyKeyFilter;
 import com.railse.hiring.workforcemgmt.mapper.ITaskManagementMapper;
+import com.railse.hiring.workforcemgmt.model.ReferenceAssignment;
+import com.railse.hiring.workforcemgmt.model.TaskIdempotencyKey;
 import com.railse.hiring.workforcemgmt.model.TaskManagement;
 import com.railse.hiring.workforcemgmt.model.enums.Task;
 import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
 import com.railse.hiring.workforcemgmt.model.enums.Priority;
-import com.railse.hiring.workforcemgmt.model.TaskActivity;
 import com.railse.hiring.workforcemgmt.model.TaskComment;
 import com.railse.hiring.workforcemgmt.model.enums.ActivityType;
-import com.railse.hiring.workforcemgmt.repository.TaskActivityRepository;
+import com.railse.hiring.workforcemgmt.outbox.TaskOutbox;
+import com.railse.hiring.workforcemgmt.projection.TaskListProjection;
+import com.railse.hiring.workforcemgmt.repository.ReferenceAssignmentRepository;
 import com.railse.hiring.workforcemgmt.repository.TaskCommentRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskIdempotencyKeyRepository;
 import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskVersionedUpdateRepository.VersionedUpdate;
 
 import java.time.LocalDateTime;
 import com.railse.hiring.workforcemgmt.service.TaskManagementService;
+import com.railse.hiring.workforcemgmt.workload.AssigneeLoadTracker;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TaskManagementServiceImpl implements TaskManagementService {
 
+   // Assuming a default user for now, or get from security context
+   private static final Long SYSTEM_USER_ID = 1L;
+
    private final TaskRepository taskRepository;
-   private final TaskActivityRepository activityRepository;
    private final TaskCommentRepository commentRepository;
+   private final ReferenceAssignmentRepository referenceAssignmentRepository;
    private final ITaskManagementMapper taskMapper;
+   private final EntityManager entityManager;
+   private final ActivityRecorder activityRecorder;
+   private final AssigneeLoadTracker loadTracker;
+   private final TaskCatalogue taskCatalogue;
+   private final TaskIdempotencyKeyRepository idempotencyKeyRepository;
+   private final IdempotencyKeyFilter idempotencyKeyFilter;
+   private final TaskListProjection taskListProjection;
+   private final TaskOutbox taskOutbox;
+   private final ApplicationEventPublisher eventPublisher;
+   private final TransactionTemplate transactionTemplate;
+   private final int createChunkSize;
+   private final int maxConflictRetries;
+   private final ConflictCounters updateConflicts;
+   private final ConflictCounters bulkUpdateConflicts;
+   private final ConflictCounters assignConflicts;
+   private final ConflictCounters priorityConflicts;
 
-   public TaskManagementServiceImpl(TaskRepository taskRepository, TaskActivityRepository activityRepository, TaskCommentRepository commentRepository, ITaskManagementMapper taskMapper) {
+   public TaskManagementServiceImpl(TaskRepository taskRepository, TaskCommentRepository commentRepository,
+                                    ReferenceAssignmentRepository referenceAssignmentRepository, ITaskManagementMapper taskMapper,
+                                    EntityManager entityManager, ActivityRecorder activityRecorder, AssigneeLoadTracker loadTracker,
+                                    TaskCatalogue taskCatalogue, TaskIdempotencyKeyRepository idempotencyKeyRepository,
+                                    IdempotencyKeyFilter idempotencyKeyFilter, TaskListProjection taskListProjection, TaskOutbox taskOutbox,
+                                    ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${workforcemgmt.task.bulk-create.chunk-size:500}") int createChunkSize,
+                                    @Value("${workforcemgmt.task.bulk-update.max-conflict-retries:3}") int maxConflictRetries) {
        this.taskRepository = taskRepository;
-       this.activityRepository = activityRepository;
        this.commentRepository = commentRepository;
+       this.referenceAssignmentRepository = referenceAssignmentRepository;
        this.taskMapper = taskMapper;
+       this.entityManager = entityManager;
+       this.activityRecorder = activityRecorder;
+       this.loadTracker = loadTracker;
+       this.taskCatalogue = taskCatalogue;
+       this.idempotencyKeyRepository = idempotencyKeyRepository;
+       this.idempotencyKeyFilter = idempotencyKeyFilter;
+       this.taskListProjection = taskListProjection;
+       this.taskOutbox = taskOutbox;
+       this.eventPublisher = eventPublisher;
+       this.transactionTemplate = new TransactionTemplate(transactionManager);
+       this.createChunkSize = createChunkSize;
+       this.maxConflictRetries = maxConflictRetries;
+       this.updateConflicts = new ConflictCounters(meterRegistry, "updateTasks");
+       this.bulkUpdateConflicts = new ConflictCounters(meterRegistry, "bulkUpdateTasks");
+       this.assignConflicts = new ConflictCounters(meterRegistry, "assignByReference");
+       this.priorityConflicts = new ConflictCounters(meterRegistry, "updateTaskPriority");
    }
 
    @Override
-   public TaskManagementDto findTaskById(Long id) {
-       TaskManagement task = taskRepository.findById(id)
-               .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-       return taskMapper.modelToDto(task);
+   @Transactional
+   public List<TaskManagementDto> createTasks(TaskCreateRequest createRequest) {
+       return insertTasks(createRequest.getRequests());
    }
 
    @Override
-   public List<TaskManagementDto> createTasks(TaskCreateRequest createRequest) {
-       List<TaskManagement> createdTasks = new ArrayList<>();
-       for (TaskCreateRequest.RequestItem item : createRequest.getRequests()) {
+   @Transactional
+   public TaskIngestResultDto ingestTasks(TaskIngestRequest ingestRequest) {
+       // Repeated keys inside the batch are duplicates of their first occurrence
+       Map<String, TaskIngestRequest.RequestItem> itemsByKey = new LinkedHashMap<>();
+       Set<String> repeatedKeys = new HashSet<>();
+       for (TaskIngestRequest.RequestItem item : ingestRequest.getRequests()) {
+           if (item.getIdempotencyKey() == null || item.getIdempotencyKey().isBlank()) {
+               throw new InvalidRequestException("idempotency_key is required for every ingested item");
+           }
+           if (item.getIdempotencyKey().length() > TaskIdempotencyKey.MAX_KEY_LENGTH) {
+               throw new InvalidRequestException("idempotency_key must be at most " + TaskIdempotencyKey.MAX_KEY_LENGTH + " characters");
+           }
+           if (itemsByKey.putIfAbsent(item.getIdempotencyKey(), item) != null) {
+               repeatedKeys.add(item.getIdempotencyKey());
+           }
+       }
+       int duplicates = ingestRequest.getRequests().size() - itemsByKey.size();
+
+       // Only keys the filter may have seen cost a lookup; a batch of fresh keys goes straight to the inserts
+       List<String> maybeSeen = itemsByKey.keySet().stream()
+               .filter(idempotencyKeyFilter::mightContain)
+               .collect(Collectors.toList());
+       // Duplicates report the task their key already points at, so a caller can learn what an earlier attempt created
+       Map<String, Long> duplicateTaskIds = new LinkedHashMap<>();
+       if (!maybeSeen.isEmpty()) {
+           for (TaskIdempotencyKeyRepository.ExistingKey existing : idempotencyKeyRepository.findExistingKeys(maybeSeen)) {
+               itemsByKey.remove(existing.getIdempotencyKey());
+               duplicateTaskIds.put(existing.getIdempotencyKey(), existing.getTaskId());
+               duplicates++;
+           }
+       }
+
+       // Items for the same reference and task become one task; later items overwrite the fields they carry
+       Map<List<Object>, IngestGroup> groups = new LinkedHashMap<>();
+       for (TaskIngestRequest.RequestItem item : itemsByKey.values()) {
+           groups.computeIfAbsent(Arrays.asList(item.getReferenceId(), item.getReferenceType(), item.getTask()), key -> new IngestGroup())
+                   .add(item);
+       }
+       int merged = itemsByKey.size() - groups.size();
+
+       List<TaskManagementDto> created = insertTasks(groups.values().stream().map(IngestGroup::merged).collect(Collectors.toList()));
+       long now = System.currentTimeMillis();
+       List<TaskIdempotencyKey> keys = new ArrayList<>(itemsByKey.size());
+       Iterator<TaskManagementDto> createdIterator = created.iterator();
+       for (IngestGroup group : groups.values()) {
+           Long taskId = createdIterator.next().getId();
+           for (String idempotencyKey : group.idempotencyKeys) {
+               TaskIdempotencyKey key = new TaskIdempotencyKey();
+               key.setIdempotencyKey(idempotencyKey);
+               key.setTaskId(taskId);
+               key.setCreatedAt(now);
+               keys.add(key);
+               if (repeatedKeys.contains(idempotencyKey)) {
+                   duplicateTaskIds.put(idempotencyKey, taskId);
+               }
+           }
+       }
+       try {
+           idempotencyKeyRepository.saveAll(keys);
+           idempotencyKeyRepository.flush();
+       } catch (DataIntegrityViolationException e) {
+           if (!isDuplicateKey(e)) {
+               throw e;
+           }
+           // A concurrent request, or a retry older than the filter's window, got the key in first; the retry is then caught as a duplicate
+           throw new ObjectOptimisticLockingFailureException(TaskIdempotencyKey.class, itemsByKey.keySet(), e);
+       } finally {
+           // False positives only cost a lookup, so keys of a rolled-back batch may stay in the filter
+           idempotencyKeyFilter.putAll(itemsByKey.keySet());
+       }
+       return new TaskIngestResultDto(created.size(), duplicates, merged, created, duplicateTaskIds);
+   }
+
+   // Only a key collision means another request won; any other integrity error is a bug and stays a 500
+   private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+       for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+           if (cause instanceof ConstraintViolationException violation) {
+               return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+           }
+       }
+       return false;
+   }
+
+   private List<TaskManagementDto> insertTasks(List<? extends TaskCreateRequest.RequestItem> items) {
+       List<TaskManagementDto> createdTasks = new ArrayList<>(items.size());
+       List<TaskManagement> chunk = new ArrayList<>(Math.min(createChunkSize, items.size()));
+       for (TaskCreateRequest.RequestItem item : items) {
            TaskManagement newTask = new TaskManagement();
            newTask.setReferenceId(item.getReferenceId());
            newTask.setReferenceType(item.getReferenceType());
@@ -57,106 +223,288 @@ public class TaskManagementServiceImpl implements TaskManagementService {
            newTask.setTaskDeadlineTime(item.getTaskDeadlineTime());
            newTask.setStatus(TaskStatus.ASSIGNED);
            newTask.setDescription("New task created.");
-           createdTasks.add(taskRepository.save(newTask));
+           chunk.add(newTask);
+           if (chunk.size() == createChunkSize) {
+               createdTasks.addAll(saveChunk(chunk));
+               chunk.clear();
+           }
+       }
+       if (!chunk.isEmpty()) {
+           createdTasks.addAll(saveChunk(chunk));
        }
-       return taskMapper.modelListToDtoList(createdTasks);
+       activityRecorder.recordAll(createdTasks.stream()
+               .map(dto -> ActivityEvent.of(dto.getId(), ActivityType.TASK_CREATED,
+                       String.format("Task %s created for user %d", dto.getTask(), dto.getAssigneeId()), SYSTEM_USER_ID))
+               .collect(Collectors.toList()));
+       publishChanged(createdTasks.stream()
+               .map(dto -> new TaskSnapshot(dto.getId(), dto.getAssigneeId(), dto.getStatus(), dto.getPriority(), dto.getTaskDeadlineTime(), dto.getVersion()))
+               .collect(Collectors.toList()));
+       return createdTasks;
+   }
+
+   // Flushes one chunk as JDBC batches and clears the persistence context so large requests don't accumulate managed entities
+   private List<TaskManagementDto> saveChunk(List<TaskManagement> chunk) {
+       List<TaskManagement> saved = taskRepository.saveAll(chunk);
+       taskRepository.flush();
+       List<TaskManagementDto> dtos = taskMapper.modelListToDtoList(saved);
+       entityManager.clear();
+       return dtos;
    }
 
    @Override
+   @Transactional
    public List<TaskManagementDto> updateTasks(UpdateTaskRequest updateRequest) {
+       Map<Long, TaskManagement> tasksById = loadTasksById(updateRequest.getRequests());
        List<TaskManagement> updatedTasks = new ArrayList<>();
+       List<ActivityEvent> activities = new ArrayList<>();
        for (UpdateTaskRequest.RequestItem item : updateRequest.getRequests()) {
-           TaskManagement task = taskRepository.findById(item.getTaskId())
-                   .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + item.getTaskId()));
+           TaskManagement task = tasksById.get(item.getTaskId());
+           if (task == null) {
+               throw new ResourceNotFoundException("Task not found with id: " + item.getTaskId());
+           }
+           checkExpectedVersion(task, item.getExpectedVersion(), updateConflicts);
+           applyUpdate(task, item, activities);
+           updatedTasks.add(task);
+       }
+       activityRecorder.recordAll(activities);
+       flushVersioned(updateConflicts, tasksById.size());
+       publishChanged(snapshotsOf(tasksById.values()));
+       return taskMapper.modelListToDtoList(updatedTasks);
+   }
 
-           if (item.getTaskStatus() != null) {
-               task.setStatus(item.getTaskStatus());
+   // Not one transaction: each round commits on its own, and only the tasks whose versioned write lost a race to a
+   // concurrent writer go into the next round, re-read and re-applied. Expected-version mismatches are never retried.
+   @Override
+   public List<TaskUpdateResultDto> bulkUpdateTasks(UpdateTaskRequest updateRequest) {
+       List<UpdateTaskRequest.RequestItem> items = updateRequest.getRequests();
+       TaskUpdateResultDto[] results = new TaskUpdateResultDto[items.size()];
+       // Item indexes per task; items for the same task are applied in request order and written once. Tasks are
+       // written in id order so concurrent bulk updates lock shared rows in the same order instead of deadlocking.
+       Map<Long, List<Integer>> pending = new TreeMap<>();
+       for (int index = 0; index < items.size(); index++) {
+           Long taskId = items.get(index).getTaskId();
+           if (taskId == null) {
+               results[index] = notFound(null);
+           } else {
+               pending.computeIfAbsent(taskId, id -> new ArrayList<>(1)).add(index);
            }
-           if (item.getDescription() != null) {
-               task.setDescription(item.getDescription());
+       }
+       for (int attempt = 0; !pending.isEmpty(); attempt++) {
+           boolean lastAttempt = attempt >= maxConflictRetries;
+           Map<Long, List<Integer>> round = pending;
+           pending = transactionTemplate.execute(status -> applyBulkRound(items, round, results, lastAttempt));
+       }
+       return Arrays.asList(results);
+   }
+
+   // Returns the tasks whose write found the row at another version, with the indexes of the items to re-apply
+   private Map<Long, List<Integer>> applyBulkRound(List<UpdateTaskRequest.RequestItem> items, Map<Long, List<Integer>> round,
+                                                   TaskUpdateResultDto[] results, boolean lastAttempt) {
+       Map<Long, TaskManagement> tasksById = taskRepository.findAllById(round.keySet()).stream()
+               .collect(Collectors.toMap(TaskManagement::getId, Function.identity()));
+       Session session = entityManager.unwrap(Session.class);
+       long now = System.currentTimeMillis();
+       List<VersionedUpdate> updates = new ArrayList<>();
+       List<TaskManagement> updatedTasks = new ArrayList<>();
+       List<List<Integer>> appliedIndexes = new ArrayList<>();
+       List<List<ActivityEvent>> taskActivities = new ArrayList<>();
+       round.forEach((taskId, indexes) -> {
+           TaskManagement task = tasksById.get(taskId);
+           if (task == null) {
+               indexes.forEach(index -> results[index] = notFound(taskId));
+               return;
+           }
+           // Written below by a versioned JDBC update; read-only stops dirty checking from writing it again on flush
+           session.setReadOnly(task, true);
+           long readVersion = task.getVersion();
+           List<Integer> applied = new ArrayList<>(indexes.size());
+           List<ActivityEvent> activities = new ArrayList<>(2);
+           for (int index : indexes) {
+               Long expectedVersion = items.get(index).getExpectedVersion();
+               if (expectedVersion != null && expectedVersion != readVersion) {
+                   bulkUpdateConflicts.rejected.increment();
+                   results[index] = new TaskUpdateResultDto(taskId, TaskUpdateResultDto.Outcome.CONFLICT,
+                           versionMismatch(taskId, expectedVersion, readVersion), null);
+                   continue;
+               }
+               applyUpdate(task, items.get(index), activities);
+               results[index] = new TaskUpdateResultDto(taskId, TaskUpdateResultDto.Outcome.UPDATED, "Task updated.", taskMapper.modelToSummaryDto(task));
+               applied.add(index);
+           }
+           // Items that change nothing are reported as applied without a write
+           if (!activities.isEmpty()) {
+               applied.forEach(index -> results[index].getTask().setVersion(readVersion + 1));
+               updates.add(new VersionedUpdate(taskId, readVersion, task.getStatus(), task.getDescription(), now));
+               updatedTasks.add(task);
+               appliedIndexes.add(applied);
+               taskActivities.add(activities);
+           }
+       });
+
+       boolean[] written = taskRepository.updateIfVersionMatches(updates);
+       bulkUpdateConflicts.writes.increment(updates.size());
+       Map<Long, List<Integer>> lost = new TreeMap<>();
+       List<TaskManagement> committed = new ArrayList<>(updatedTasks.size());
+       List<ActivityEvent> activities = new ArrayList<>();
+       for (int i = 0; i < written.length; i++) {
+           TaskManagement task = updatedTasks.get(i);
+           if (written[i]) {
+               committed.add(task);
+               activities.addAll(taskActivities.get(i));
+           } else if (lastAttempt) {
+               bulkUpdateConflicts.failed.increment();
+               appliedIndexes.get(i).forEach(index -> results[index] = new TaskUpdateResultDto(task.getId(), TaskUpdateResultDto.Outcome.CONFLICT,
+                       "Task " + task.getId() + " kept changing concurrently; gave up after " + (maxConflictRetries + 1) + " attempts", null));
+           } else {
+               bulkUpdateConflicts.retried.increment();
+               lost.put(task.getId(), appliedIndexes.get(i));
            }
-           updatedTasks.add(taskRepository.save(task));
        }
-       return taskMapper.modelListToDtoList(updatedTasks);
+       activityRecorder.recordAll(activities);
+       // The entities still hold the version that was read; the JDBC update wrote the next one
+       publishChanged(committed.stream().map(task -> snapshotOf(task, task.getVersion() + 1)).collect(Collectors.toList()));
+       return lost;
+   }
+
+   private static TaskUpdateResultDto notFound(Long taskId) {
+       return new TaskUpdateResultDto(taskId, TaskUpdateResultDto.Outcome.NOT_FOUND, "Task not found with id: " + taskId, null);
+   }
+
+   private Map<Long, TaskManagement> loadTasksById(List<UpdateTaskRequest.RequestItem> items) {
+       Set<Long> ids = items.stream()
+               .map(UpdateTaskRequest.RequestItem::getTaskId)
+               .filter(Objects::nonNull)
+               .collect(Collectors.toSet());
+       return taskRepository.findAllById(ids).stream()
+               .collect(Collectors.toMap(TaskManagement::getId, Function.identity()));
+   }
+
+   private void applyUpdate(TaskManagement task, UpdateTaskRequest.RequestItem item, List<ActivityEvent> activities) {
+       if (item.getTaskStatus() != null && item.getTaskStatus() != task.getStatus()) {
+           activities.add(ActivityEvent.of(task.getId(), ActivityType.TASK_STATUS_CHANGED,
+                   String.format("Task status changed from %s to %s", task.getStatus(), item.getTaskStatus()), SYSTEM_USER_ID));
+           task.setStatus(item.getTaskStatus());
+       }
+       if (item.getDescription() != null && !item.getDescription().equals(task.getDescription())) {
+           activities.add(ActivityEvent.of(task.getId(), ActivityType.TASK_UPDATED, "Task description updated", SYSTEM_USER_ID));
+           task.setDescription(item.getDescription());
+       }
    }
 
    @Override
+   @Transactional
    public String assignByReference(AssignByReferenceRequest request) {
-       List<Task> applicableTasks = Task.getTasksByReferenceType(request.getReferenceType());
-       List<TaskManagement> existingTasks = taskRepository.findByReferenceIdAndReferenceType(request.getReferenceId(), request.getReferenceType());
+       List<Task> applicableTasks = taskCatalogue.getTasks(request.getReferenceType());
+       Long assigneeId = request.getAssigneeId() != null ? request.getAssigneeId() : pickAssignee(request, applicableTasks.size());
+       claimReference(request, assigneeId);
 
-       for (Task taskType : applicableTasks) {
-           List<TaskManagement> tasksOfType = existingTasks.stream()
-                   .filter(t -> t.getTask() == taskType && t.getStatus() != TaskStatus.COMPLETED)
-                   .collect(Collectors.toList());
-
-           if (!tasksOfType.isEmpty()) {
-               // ✅ FIXED BUG: Cancel previous assignments before reassigning
-               for (TaskManagement taskToUpdate : tasksOfType) {
-                   taskToUpdate.setStatus(TaskStatus.CANCELLED);
-                   taskRepository.save(taskToUpdate);
-               }
+       if (applicableTasks.isEmpty()) {
+           return "Tasks reassigned successfully for reference " + request.getReferenceId();
+       }
+
+       // ✅ FIXED BUG: Cancel previous assignments before reassigning, as one set-based UPDATE
+       List<Long> cancelledIds = taskRepository.findOpenTaskIdsByReference(request.getReferenceId(), request.getReferenceType(), applicableTasks);
+       if (!cancelledIds.isEmpty()) {
+           assignConflicts.writes.increment(cancelledIds.size());
+           if (taskRepository.cancelOpenByIdIn(cancelledIds, System.currentTimeMillis()) != cancelledIds.size()) {
+               // One of them was closed since it was read; reassigning over it would overwrite that close
+               assignConflicts.failed.increment();
+               throw new ObjectOptimisticLockingFailureException(TaskManagement.class, cancelledIds,
+                       "A task of reference " + request.getReferenceId() + " was closed concurrently", null);
            }
+       }
 
+       List<TaskManagement> newTasks = new ArrayList<>(applicableTasks.size());
+       for (Task taskType : applicableTasks) {
            TaskManagement newTask = new TaskManagement();
            newTask.setReferenceId(request.getReferenceId());
            newTask.setReferenceType(request.getReferenceType());
            newTask.setTask(taskType);
-           newTask.setAssigneeId(request.getAssigneeId());
+           newTask.setAssigneeId(assigneeId);
            newTask.setStatus(TaskStatus.ASSIGNED);
            newTask.setDescription("Task reassigned to new user.");
-           taskRepository.save(newTask);
+           newTasks.add(newTask);
+       }
+       taskRepository.saveAll(newTasks);
+
+       List<ActivityEvent> activities = new ArrayList<>(cancelledIds.size() + newTasks.size());
+       cancelledIds.forEach(id -> activities.add(ActivityEvent.of(id, ActivityType.TASK_STATUS_CHANGED,
+               String.format("Task cancelled: reference reassigned to user %d", assigneeId), SYSTEM_USER_ID)));
+       newTasks.forEach(task -> activities.add(ActivityEvent.of(task.getId(), ActivityType.TASK_REASSIGNED,
+               String.format("Task reassigned to user %d", assigneeId), SYSTEM_USER_ID)));
+       activityRecorder.recordAll(activities);
+
+       // Cancelled rows were never loaded; read them back for the version the bulk update wrote
+       List<TaskSnapshot> changed = new ArrayList<>(cancelledIds.size() + newTasks.size());
+       if (!cancelledIds.isEmpty()) {
+           changed.addAll(taskRepository.findTaskSnapshotsByIdIn(cancelledIds));
+       }
+       changed.addAll(snapshotsOf(newTasks));
+       publishChanged(changed);
+       if (request.getAssigneeId() == null) {
+           return "Tasks auto-assigned to user " + assigneeId + " for reference " + request.getReferenceId();
        }
        return "Tasks reassigned successfully for reference " + request.getReferenceId();
    }
 
-   @Override
-   public List<TaskManagementDto> fetchTasksByDate(TaskFetchByDateRequest request) {
-       List<TaskManagement> tasks = taskRepository.findByAssigneeIdIn(request.getAssigneeIds());
-
-       List<TaskManagement> filteredTasks = tasks.stream()
-               .filter(task ->
-                       task.getStatus() != TaskStatus.CANCELLED &&
-                       (
-                           (task.getTaskDeadlineTime() >= request.getStartDate() &&
-                            task.getTaskDeadlineTime() <= request.getEndDate()) ||
-                           (task.getTaskDeadlineTime() < request.getStartDate() &&
-                            task.getStatus() == TaskStatus.ASSIGNED)
-                       )
-               )
-               .collect(Collectors.toList());
+   // The pick reserves load on the chosen assignee so concurrent auto-assignments spread out; the reservation is
+   // dropped once this transaction completes, by which point a commit has replaced it with the real tasks
+   private Long pickAssignee(AssignByReferenceRequest request, int taskCount) {
+       List<Long> candidates = request.getCandidateAssigneeIds() == null ? List.of()
+               : request.getCandidateAssigneeIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+       if (candidates.isEmpty()) {
+           throw new InvalidRequestException("Either assignee_id or a non-empty candidate_assignee_ids is required");
+       }
+       AssigneeLoadTracker.Reservation reservation = loadTracker.reserve(candidates, taskCount);
+       TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+           @Override
+           public void afterCompletion(int status) {
+               loadTracker.release(reservation);
+           }
+       });
+       return reservation.assigneeId();
+   }
 
-       return taskMapper.modelListToDtoList(filteredTasks);
+   // Bumps the reference's version up front: a concurrent reassignment of the same reference fails with an optimistic lock conflict instead of interleaving
+   private void claimReference(AssignByReferenceRequest request, Long assigneeId) {
+       ReferenceAssignment assignment = referenceAssignmentRepository
+               .findByReferenceIdAndReferenceType(request.getReferenceId(), request.getReferenceType())
+               .orElseGet(() -> {
+                   ReferenceAssignment created = new ReferenceAssignment();
+                   created.setReferenceId(request.getReferenceId());
+                   created.setReferenceType(request.getReferenceType());
+                   return created;
+               });
+       assignment.setAssigneeId(assigneeId);
+       try {
+           referenceAssignmentRepository.saveAndFlush(assignment);
+       } catch (DataIntegrityViolationException e) {
+           // Another transaction created the row for this reference first
+           throw new ObjectOptimisticLockingFailureException(ReferenceAssignment.class, request.getReferenceId(), e);
+       }
    }
 
    @Override
+   @Transactional
    public TaskManagementDto updateTaskPriority(Long id, UpdateTaskPriorityRequest request) {
        TaskManagement task = taskRepository.findById(id)
                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+       checkExpectedVersion(task, request.getExpectedVersion(), priorityConflicts);
        Priority oldPriority = task.getPriority();
        task.setPriority(request.getPriority());
        TaskManagement updatedTask = taskRepository.save(task);
 
        // Log activity
-       TaskActivity activity = new TaskActivity();
-       activity.setTask(updatedTask);
-       activity.setActivityType(ActivityType.TASK_PRIORITY_CHANGED);
-       activity.setDescription(String.format("Task priority changed from %s to %s", oldPriority, request.getPriority()));
-       activity.setTimestamp(LocalDateTime.now());
-       // Assuming a default user for now, or get from security context
-       activity.setUserId(1L);
-       activityRepository.save(activity);
+       activityRecorder.record(ActivityEvent.of(id, ActivityType.TASK_PRIORITY_CHANGED,
+               String.format("Task priority changed from %s to %s", oldPriority, request.getPriority()), SYSTEM_USER_ID));
 
-       return taskMapper.modelToDto(updatedTask);
-   }
-
-   @Override
-   public List<TaskManagementDto> findTasksByPriority(String priority) {
-       List<TaskManagement> tasks = taskRepository.findByPriority(com.railse.hiring.workforcemgmt.model.enums.Priority.valueOf(priority.toUpperCase()));
-       return taskMapper.modelListToDtoList(tasks);
+       flushVersioned(priorityConflicts, 1);
+       publishChanged(snapshotsOf(List.of(updatedTask)));
+       return taskMapper.modelToSummaryDto(updatedTask);
    }
 
    @Override
+   @Transactional
    public TaskManagementDto addCommentToTask(Long taskId, AddCommentRequest request) {
        TaskManagement task = taskRepository.findById(taskId)
                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
@@ -169,24 +517,110 @@ public class TaskManagementServiceImpl implements TaskManagementService {
        commentRepository.save(comment);
 
        // Log activity
-       TaskActivity activity = new TaskActivity();
-       activity.setTask(task);
-       activity.setActivityType(ActivityType.COMMENT_ADDED);
-       activity.setDescription(String.format("Comment added by user %d: \"%s\"", request.getUserId(), request.getCommentText()));
-       activity.setTimestamp(LocalDateTime.now());
-       activity.setUserId(request.getUserId());
-       activityRepository.save(activity);
+       activityRecorder.record(ActivityEvent.of(taskId, ActivityType.COMMENT_ADDED,
+               String.format("Comment added by user %d: \"%s\"", request.getUserId(), request.getCommentText()), request.getUserId()));
 
-       return taskMapper.modelToDto(task);
+       publishChanged(snapshotsOf(List.of(task)));
+       // Loaded inside this transaction so the new comment is included; the cached read is evicted after commit
+       TaskManagement withDetails = taskRepository.findWithDetailsById(taskId)
+               .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+       return taskMapper.modelToDto(withDetails);
    }
 
-   @Override
-   public TaskManagementDto getTaskDetails(Long id) {
-       TaskManagement task = taskRepository.findById(id)
-               .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-       TaskManagementDto dto = taskMapper.modelToDto(task);
-       dto.setActivities(taskMapper.activityListToDtoList(activityRepository.findByTaskIdOrderByTimestampAsc(id)));
-       dto.setComments(taskMapper.commentListToDtoList(commentRepository.findByTaskIdOrderByTimestampAsc(id)));
-       return dto;
+   private void checkExpectedVersion(TaskManagement task, Long expectedVersion, ConflictCounters conflicts) {
+       if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+           conflicts.rejected.increment();
+           throw new ObjectOptimisticLockingFailureException(TaskManagement.class, task.getId(),
+                   versionMismatch(task.getId(), expectedVersion, task.getVersion()), null);
+       }
+   }
+
+   // Hibernate checks the versions on flush; flushing through the repository turns a lost race into a translated 409 here
+   // rather than on commit, so it can be counted
+   private void flushVersioned(ConflictCounters conflicts, int writes) {
+       conflicts.writes.increment(writes);
+       try {
+           taskRepository.flush();
+       } catch (ObjectOptimisticLockingFailureException e) {
+           conflicts.failed.increment();
+           throw e;
+       }
+   }
+
+   private static String versionMismatch(Long taskId, Long expectedVersion, Long version) {
+       return String.format("Task %d is at version %d, expected %d", taskId, version, expectedVersion);
+   }
+
+   // Every write path ends here inside its transaction: refresh the list read model, append the changes to the outbox,
+   // then notify after-commit listeners
+   private void publishChanged(List<TaskSnapshot> tasks) {
+       if (!tasks.isEmpty()) {
+           List<Long> taskIds = tasks.stream().map(TaskSnapshot::getId).collect(Collectors.toList());
+           taskListProjection.refresh(taskIds);
+           taskOutbox.append(taskIds);
+           eventPublisher.publishEvent(new TaskChangedEvent(taskIds, List.copyOf(tasks)));
+       }
+   }
+
+   private static final class IngestGroup {
+       private final TaskCreateRequest.RequestItem merged = new TaskCreateRequest.RequestItem();
+       private final List<String> idempotencyKeys = new ArrayList<>(1);
+
+       void add(TaskIngestRequest.RequestItem item) {
+           idempotencyKeys.add(item.getIdempotencyKey());
+           merged.setReferenceId(item.getReferenceId());
+           merged.setReferenceType(item.getReferenceType());
+           merged.setTask(item.getTask());
+           if (item.getAssigneeId() != null) {
+               merged.setAssigneeId(item.getAssigneeId());
+           }
+           if (item.getPriority() != null) {
+               merged.setPriority(item.getPriority());
+           }
+           if (item.getTaskDeadlineTime() != null) {
+               merged.setTaskDeadlineTime(item.getTaskDeadlineTime());
+           }
+       }
+
+       TaskCreateRequest.RequestItem merged() {
+           return merged;
+       }
+   }
+
+   // writes / conflicts per operation is the conflict rate. rejected: an expected version no longer matched;
+   // retried: a bulk write lost a race and went into the next round; failed: a lost race surfaced to the caller
+   private static final class ConflictCounters {
+       private final Counter writes;
+       private final Counter rejected;
+       private final Counter retried;
+       private final Counter failed;
+
+       ConflictCounters(MeterRegistry meterRegistry, String operation) {
+           this.writes = Counter.builder("workforcemgmt.task.versioned.writes")
+                   .description("Task rows written under an optimistic version check")
+                   .tag("operation", operation)
+                   .register(meterRegistry);
+           this.rejected = conflict(meterRegistry, operation, "rejected");
+           this.retried = conflict(meterRegistry, operation, "retried");
+           this.failed = conflict(meterRegistry, operation, "failed");
+       }
+
+       private static Counter conflict(MeterRegistry meterRegistry, String operation, String resolution) {
+           return Counter.builder("workforcemgmt.task.version.conflicts")
+                   .description("Task writes that found the row at another version than expected")
+                   .tag("operation", operation)
+                   .tag("resolution", resolution)
+                   .register(meterRegistry);
+       }
+   }
+
+   private static List<TaskSnapshot> snapshotsOf(Collection<TaskManagement> tasks) {
+       return tasks.stream()
+               .map(task -> snapshotOf(task, task.getVersion()))
+               .collect(Collectors.toList());
+   }
+
+   private static TaskSnapshot snapshotOf(TaskManagement task, Long version) {
+       return new TaskSnapshot(task.getId(), task.getAssigneeId(), task.getStatus(), task.getPriority(), task.getTaskDeadlineTime(), version);
    }
 }
@@ -0,0 +1,282 @@
+package com.railse.hiring.workforcemgmt.service.impl;
+
+import com.railse.hiring.workforcemgmt.cache.TaskCacheNames;
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.common.exception.ResourceNotFoundException;
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
+import com.railse.hiring.workforcemgmt.common.model.response.Pagination;
+import com.railse.hiring.workforcemgmt.config.MetricsConfig;
+import com.railse.hiring.workforcemgmt.dto.DeadlineBucketDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskFetchByDateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskGroupCountDto;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.dto.TaskSearchResultDto;
+import com.railse.hiring.workforcemgmt.mapper.ITaskManagementMapper;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskDimension;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.repository.ArchivedTaskActivityRepository;
+import com.railse.hiring.workforcemgmt.repository.ArchivedTaskCommentRepository;
+import com.railse.hiring.workforcemgmt.repository.ArchivedTaskRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskListViewRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import com.railse.hiring.workforcemgmt.search.TaskSearchHits;
+import com.railse.hiring.workforcemgmt.search.TaskSearchIndex;
+import com.railse.hiring.workforcemgmt.service.TaskQueryService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Read side of the task API. One read-only transaction per call: Hibernate runs it with FlushMode.MANUAL and loads
+// entities read-only, so no dirty-checking snapshots are kept and nothing is flushed on the way out.
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
+public class TaskQueryServiceImpl implements TaskQueryService {
+
+   private final TaskRepository taskRepository;
+   private final TaskListViewRepository taskListViewRepository;
+   private final ITaskManagementMapper taskMapper;
+   private final TaskSearchIndex taskSearchIndex;
+   private final ArchivedTaskRepository archivedTaskRepository;
+   private final ArchivedTaskActivityRepository archivedActivityRepository;
+   private final ArchivedTaskCommentRepository archivedCommentRepository;
+   private final int defaultPageSize;
+   private final int maxPageSize;
+   private final RowCounts fetchByDateRows;
+   private final RowCounts byPriorityRows;
+   private final DistributionSummary exportedRows;
+
+   public TaskQueryServiceImpl(TaskRepository taskRepository, TaskListViewRepository taskListViewRepository, ITaskManagementMapper taskMapper,
+                               TaskSearchIndex taskSearchIndex, ArchivedTaskRepository archivedTaskRepository,
+                               ArchivedTaskActivityRepository archivedActivityRepository,
+                               ArchivedTaskCommentRepository archivedCommentRepository, MeterRegistry meterRegistry,
+                               @Value("${workforcemgmt.pagination.default-page-size:100}") int defaultPageSize,
+                               @Value("${workforcemgmt.pagination.max-page-size:1000}") int maxPageSize) {
+       this.taskRepository = taskRepository;
+       this.taskListViewRepository = taskListViewRepository;
+       this.taskMapper = taskMapper;
+       this.taskSearchIndex = taskSearchIndex;
+       this.archivedTaskRepository = archivedTaskRepository;
+       this.archivedActivityRepository = archivedActivityRepository;
+       this.archivedCommentRepository = archivedCommentRepository;
+       this.defaultPageSize = defaultPageSize;
+       this.maxPageSize = maxPageSize;
+       this.fetchByDateRows = new RowCounts(meterRegistry, "fetchTasksByDate");
+       this.byPriorityRows = new RowCounts(meterRegistry, "findTasksByPriority");
+       this.exportedRows = rowSummary(meterRegistry, "exportTasksByDate", "returned");
+   }
+
+   @Override
+   @Cacheable(cacheNames = TaskCacheNames.TASKS, key = "#id")
+   public TaskManagementDto findTaskById(Long id) {
+       return loadWithDetails(id);
+   }
+
+   // Same representation as findTaskById, so both share one cache entry per task
+   @Override
+   @Cacheable(cacheNames = TaskCacheNames.TASKS, key = "#id")
+   public TaskManagementDto getTaskDetails(Long id) {
+       return loadWithDetails(id);
+   }
+
+   @Override
+   public TaskManagementDto getArchivedTaskDetails(Long id) {
+       TaskManagementDto task = archivedTaskRepository.findDtoById(id)
+               .orElseThrow(() -> new ResourceNotFoundException("Archived task not found with id: " + id));
+       task.setActivities(taskMapper.archivedActivityListToDtoList(archivedActivityRepository.findByTaskIdOrderByTimestampAsc(id)));
+       task.setComments(taskMapper.archivedCommentListToDtoList(archivedCommentRepository.findByTaskIdOrderByTimestampAsc(id)));
+       return task;
+   }
+
+   @Override
+   public PagedResult<TaskManagementDto> fetchTasksByDate(TaskFetchByDateRequest request) {
+       int pageSize = resolvePageSize(request.getPageSize());
+       List<TaskManagementDto> tasks = taskListViewRepository.findActiveByAssigneeIdInAndDeadlineWindowAfter(
+               request.getAssigneeIds(), request.getStartDate(), request.getEndDate(),
+               resolveCursor(request.getCursor()), Limit.of(pageSize + 1));
+       if (Boolean.TRUE.equals(request.getIncludeArchived())) {
+           // Archived tasks keep their ids, so the two id-ordered pages merge under the same cursor
+           tasks = mergeById(tasks, archivedTaskRepository.findActiveByAssigneeIdInAndDeadlineWindowAfter(
+                   request.getAssigneeIds(), request.getStartDate(), request.getEndDate(),
+                   resolveCursor(request.getCursor()), Limit.of(pageSize + 1)), pageSize + 1);
+       }
+
+       return toPage(tasks, pageSize, fetchByDateRows);
+   }
+
+   // DTO rows straight off the read-model cursor: nothing enters the persistence context, so memory stays flat however long the export
+   @Override
+   public long exportTasksByDate(TaskFetchByDateRequest request, Consumer<TaskManagementDto> sink) {
+       long exported = 0;
+       try (Stream<TaskManagementDto> live = taskListViewRepository.streamActiveByAssigneeIdInAndDeadlineWindow(
+               request.getAssigneeIds(), request.getStartDate(), request.getEndDate());
+            Stream<TaskManagementDto> archived = Boolean.TRUE.equals(request.getIncludeArchived())
+                    ? archivedTaskRepository.streamActiveByAssigneeIdInAndDeadlineWindow(
+                            request.getAssigneeIds(), request.getStartDate(), request.getEndDate())
+                    : Stream.empty()) {
+           // Both cursors are id-ordered, so archived rows interleave without buffering either side
+           for (Iterator<TaskManagementDto> iterator = mergeById(live.iterator(), archived.iterator()); iterator.hasNext(); exported++) {
+               sink.accept(iterator.next());
+           }
+       }
+       exportedRows.record(exported);
+       return exported;
+   }
+
+   @Override
+   public PagedResult<TaskManagementDto> findTasksByPriority(String priority, Long cursor, Integer pageSize) {
+       int size = resolvePageSize(pageSize);
+       List<TaskManagementDto> tasks = taskListViewRepository.findByPriorityAfter(
+               Priority.valueOf(priority.toUpperCase()), resolveCursor(cursor), Limit.of(size + 1));
+       return toPage(tasks, size, byPriorityRows);
+   }
+
+   // Lucene picks and ranks the ids; the rows come from the read model so the results match the list endpoints
+   @Override
+   public TaskSearchResultDto searchTasks(String query, TaskStatus status, Priority priority, Task task, Integer limit) {
+       Map<String, String> filters = new LinkedHashMap<>();
+       if (status != null) {
+           filters.put(TaskSearchIndex.STATUS, status.name());
+       }
+       if (priority != null) {
+           filters.put(TaskSearchIndex.PRIORITY, priority.name());
+       }
+       if (task != null) {
+           filters.put(TaskSearchIndex.TASK, task.name());
+       }
+       TaskSearchHits hits = taskSearchIndex.search(query, filters, resolvePageSize(limit));
+       Map<Long, TaskManagementDto> rows = hits.taskIds().isEmpty() ? Map.of()
+               : taskListViewRepository.findByIdIn(hits.taskIds()).stream()
+                       .collect(Collectors.toMap(TaskManagementDto::getId, Function.identity()));
+       List<TaskManagementDto> tasks = hits.taskIds().stream().map(rows::get).filter(Objects::nonNull).toList();
+       return new TaskSearchResultDto(hits.totalHits(), tasks, hits.facets());
+   }
+
+   // Counted by the database; only one row per group comes back
+   @Override
+   @Cacheable(cacheNames = TaskCacheNames.TASK_AGGREGATES, key = "#request")
+   public TaskAggregationDto aggregateTasks(TaskAggregationRequest request) {
+       List<TaskDimension> groupBy = request.getGroupBy() == null ? List.of() : request.getGroupBy();
+       if (groupBy.stream().distinct().count() != groupBy.size()) {
+           throw new InvalidRequestException("group_by must not repeat a dimension");
+       }
+       if (request.getDeadlineBucketMs() != null && request.getDeadlineBucketMs() <= 0) {
+           throw new InvalidRequestException("deadline_bucket_ms must be positive");
+       }
+       List<TaskGroupCountDto> groups = taskRepository.countGroupedBy(groupBy, request);
+       long total = groups.stream().mapToLong(TaskGroupCountDto::getCount).sum();
+       List<DeadlineBucketDto> histogram = request.getDeadlineBucketMs() == null ? List.of()
+               : taskRepository.countByDeadlineBucket(request.getDeadlineBucketMs(), request);
+       return new TaskAggregationDto(total, groups, histogram);
+   }
+
+   // Full DTO with activities and comments, as both endpoints have always returned, in one fetch-join query
+   private TaskManagementDto loadWithDetails(Long id) {
+       TaskManagement task = taskRepository.findWithDetailsById(id)
+               .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+       return taskMapper.modelToDto(task);
+   }
+
+   private int resolvePageSize(Integer requested) {
+       if (requested == null || requested <= 0) {
+           return defaultPageSize;
+       }
+       return Math.min(requested, maxPageSize);
+   }
+
+   private long resolveCursor(Long cursor) {
+       return cursor == null ? 0L : cursor;
+   }
+
+   private static List<TaskManagementDto> mergeById(List<TaskManagementDto> left, List<TaskManagementDto> right, int limit) {
+       List<TaskManagementDto> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+       for (Iterator<TaskManagementDto> iterator = mergeById(left.iterator(), right.iterator()); merged.size() < limit && iterator.hasNext(); ) {
+           merged.add(iterator.next());
+       }
+       return merged;
+   }
+
+   private static Iterator<TaskManagementDto> mergeById(Iterator<TaskManagementDto> left, Iterator<TaskManagementDto> right) {
+       return new Iterator<>() {
+           private TaskManagementDto nextLeft = advance(left);
+           private TaskManagementDto nextRight = advance(right);
+
+           @Override
+           public boolean hasNext() {
+               return nextLeft != null || nextRight != null;
+           }
+
+           @Override
+           public TaskManagementDto next() {
+               if (!hasNext()) {
+                   throw new NoSuchElementException();
+               }
+               int order = nextLeft == null ? 1 : nextRight == null ? -1 : Long.compare(nextLeft.getId(), nextRight.getId());
+               TaskManagementDto next = order <= 0 ? nextLeft : nextRight;
+               if (order <= 0) {
+                   nextLeft = advance(left);
+               }
+               if (order >= 0) {
+                   // Archived between the two queries; keep one copy
+                   nextRight = advance(right);
+               }
+               return next;
+           }
+       };
+   }
+
+   private static TaskManagementDto advance(Iterator<TaskManagementDto> iterator) {
+       return iterator.hasNext() ? iterator.next() : null;
+   }
+
+   // Repositories are asked for pageSize + 1 rows so the extra row tells us whether another page exists
+   private PagedResult<TaskManagementDto> toPage(List<TaskManagementDto> tasks, int pageSize, RowCounts rowCounts) {
+       boolean hasMore = tasks.size() > pageSize;
+       List<TaskManagementDto> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+       rowCounts.loaded.record(tasks.size());
+       rowCounts.returned.record(page.size());
+       Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+       return new PagedResult<>(page, new Pagination(nextCursor, pageSize, hasMore));
+   }
+
+   private static DistributionSummary rowSummary(MeterRegistry meterRegistry, String operation, String stage) {
+       return DistributionSummary.builder("workforcemgmt.task.query.rows")
+               .description("Rows read from the database versus rows returned to the caller")
+               .tag("operation", operation)
+               .tag("stage", stage)
+               .publishPercentileHistogram()
+               .register(meterRegistry);
+   }
+
+   private static final class RowCounts {
+       private final DistributionSummary loaded;
+       private final DistributionSummary returned;
+
+       RowCounts(MeterRegistry meterRegistry, String operation) {
+           this.loaded = rowSummary(meterRegistry, operation, "loaded");
+           this.returned = rowSummary(meterRegistry, operation, "returned");
+       }
+   }
+}
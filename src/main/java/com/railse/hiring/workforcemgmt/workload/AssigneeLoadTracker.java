@@ -0,0 +1,215 @@
+package com.railse.hiring.workforcemgmt.workload;
+
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Weighted open-task load per assignee, for picking who gets auto-assigned work. A task weighs its priority weight,
+ * scaled up to double as its deadline comes within the horizon (overdue tasks count double).
+ * Assignees are spread over lock stripes so concurrent picks over disjoint candidate pools don't contend;
+ * a pick locks only its candidates' stripes, in index order, and reserves the new load on the winner before
+ * unlocking, so two concurrent picks never see the same pre-pick scores.
+ */
+@Component
+public class AssigneeLoadTracker {
+
+    private static final double[] PRIORITY_WEIGHTS = {1.0, 2.0, 4.0};
+    // Tasks created by assignByReference carry no priority yet
+    private static final double UNPRIORITISED_WEIGHT = PRIORITY_WEIGHTS[Priority.MEDIUM.ordinal()];
+
+    private final TaskRepository taskRepository;
+    private final long deadlineHorizonMs;
+    private final ReentrantLock[] locks;
+    private final Long2ObjectOpenHashMap<AssigneeLoad>[] stripes;
+    // Last open snapshot per task, to find the previous assignee when a task moves or closes
+    private final ConcurrentHashMap<Long, TaskSnapshot> openTasks = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public AssigneeLoadTracker(TaskRepository taskRepository,
+                               @Value("${workforcemgmt.auto-assign.lock-stripes:64}") int stripeCount,
+                               @Value("${workforcemgmt.auto-assign.deadline-horizon-ms:86400000}") long deadlineHorizonMs) {
+        this.taskRepository = taskRepository;
+        this.deadlineHorizonMs = deadlineHorizonMs;
+        this.locks = new ReentrantLock[stripeCount];
+        this.stripes = new Long2ObjectOpenHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            locks[i] = new ReentrantLock();
+            stripes[i] = new Long2ObjectOpenHashMap<>();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lockAll();
+        try {
+            List<TaskSnapshot> snapshots = taskRepository.findOpenTaskSnapshots();
+            openTasks.clear();
+            for (Long2ObjectOpenHashMap<AssigneeLoad> stripe : stripes) {
+                stripe.clear();
+            }
+            snapshots.forEach(this::apply);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        event.getTasks().forEach(this::apply);
+    }
+
+    /**
+     * Picks the least-loaded candidate (first one on ties) and reserves {@code taskCount} unprioritised tasks on it.
+     * The reservation must be released once the assignment commits (its tasks then arrive as snapshots) or rolls back.
+     */
+    public Reservation reserve(List<Long> candidateIds, int taskCount) {
+        int[] stripeIndexes = candidateIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        for (int index : stripeIndexes) {
+            locks[index].lock();
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long chosen = candidateIds.get(0);
+            double lowest = Double.MAX_VALUE;
+            for (Long candidateId : candidateIds) {
+                AssigneeLoad load = stripes[stripeOf(candidateId)].get(candidateId.longValue());
+                double score = load == null ? 0.0 : load.score(now);
+                if (score < lowest) {
+                    lowest = score;
+                    chosen = candidateId;
+                }
+            }
+            double reserved = taskCount * UNPRIORITISED_WEIGHT;
+            loadFor(chosen).reserved += reserved;
+            return new Reservation(chosen, reserved);
+        } finally {
+            for (int i = stripeIndexes.length - 1; i >= 0; i--) {
+                locks[stripeIndexes[i]].unlock();
+            }
+        }
+    }
+
+    public void release(Reservation reservation) {
+        int index = stripeOf(reservation.assigneeId());
+        locks[index].lock();
+        try {
+            AssigneeLoad load = stripes[index].get(reservation.assigneeId());
+            if (load != null) {
+                load.reserved -= reservation.load();
+                removeIfIdle(index, reservation.assigneeId(), load);
+            }
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    public double loadOf(long assigneeId) {
+        int index = stripeOf(assigneeId);
+        locks[index].lock();
+        try {
+            AssigneeLoad load = stripes[index].get(assigneeId);
+            return load == null ? 0.0 : load.score(System.currentTimeMillis());
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    private void apply(TaskSnapshot task) {
+        boolean open = task.isOpen() && task.getAssigneeId() != null;
+        TaskSnapshot previous = open ? openTasks.put(task.getId(), task) : openTasks.remove(task.getId());
+        if (previous != null) {
+            int index = stripeOf(previous.getAssigneeId());
+            locks[index].lock();
+            try {
+                AssigneeLoad load = stripes[index].get(previous.getAssigneeId().longValue());
+                if (load != null) {
+                    load.tasks.remove(task.getId().longValue());
+                    removeIfIdle(index, previous.getAssigneeId(), load);
+                }
+            } finally {
+                locks[index].unlock();
+            }
+        }
+        if (open) {
+            int index = stripeOf(task.getAssigneeId());
+            locks[index].lock();
+            try {
+                loadFor(task.getAssigneeId()).tasks.put(task.getId().longValue(), task);
+            } finally {
+                locks[index].unlock();
+            }
+        }
+    }
+
+    // Caller holds the assignee's stripe lock
+    private AssigneeLoad loadFor(long assigneeId) {
+        Long2ObjectOpenHashMap<AssigneeLoad> stripe = stripes[stripeOf(assigneeId)];
+        AssigneeLoad load = stripe.get(assigneeId);
+        if (load == null) {
+            load = new AssigneeLoad();
+            stripe.put(assigneeId, load);
+        }
+        return load;
+    }
+
+    private void removeIfIdle(int index, long assigneeId, AssigneeLoad load) {
+        if (load.tasks.isEmpty() && load.reserved <= 1e-9) {
+            stripes[index].remove(assigneeId);
+        }
+    }
+
+    private int stripeOf(long assigneeId) {
+        return Math.floorMod(Long.hashCode(assigneeId * 0x9E3779B97F4A7C15L), locks.length);
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private final class AssigneeLoad {
+        private final Long2ObjectOpenHashMap<TaskSnapshot> tasks = new Long2ObjectOpenHashMap<>();
+        private double reserved;
+
+        double score(long now) {
+            double score = reserved;
+            for (TaskSnapshot task : tasks.values()) {
+                score += weigh(task, now);
+            }
+            return score;
+        }
+    }
+
+    private double weigh(TaskSnapshot task, long now) {
+        double weight = task.getPriority() == null ? UNPRIORITISED_WEIGHT : PRIORITY_WEIGHTS[task.getPriority().ordinal()];
+        if (task.getTaskDeadlineTime() == null) {
+            return weight;
+        }
+        double remaining = task.getTaskDeadlineTime() - now;
+        double urgency = Math.min(1.0, Math.max(0.0, 1.0 - remaining / deadlineHorizonMs));
+        return weight * (1.0 + urgency);
+    }
+
+    public record Reservation(long assigneeId, double load) {
+    }
+}
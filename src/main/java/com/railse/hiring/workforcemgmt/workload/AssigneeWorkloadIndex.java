@@ -0,0 +1,166 @@
+package com.railse.hiring.workforcemgmt.workload;
+
+import com.railse.hiring.workforcemgmt.dto.AssigneeWorkloadDto;
+import com.railse.hiring.workforcemgmt.event.SnapshotVersions;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import it.unimi.dsi.fastutil.longs.Long2IntRBTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Open-task counts per status and priority plus the earliest deadline, per assignee, kept in memory.
+ * Rebuilt from the database once the application is ready and then maintained from TaskChangedEvent snapshots.
+ * Only open tasks are tracked; the index keeps each one's last known state so a snapshot can be applied
+ * without knowing what the task looked like before the write. Snapshots older than one already applied for the
+ * same task are ignored, since concurrent transactions' listeners can run out of commit order.
+ */
+@Component
+public class AssigneeWorkloadIndex {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final TaskRepository taskRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SnapshotVersions versions = new SnapshotVersions();
+
+    private Long2ObjectOpenHashMap<TaskSnapshot> openTasks = new Long2ObjectOpenHashMap<>();
+    private Long2ObjectOpenHashMap<Workload> workloads = new Long2ObjectOpenHashMap<>();
+
+    public AssigneeWorkloadIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    // Holding the write lock while loading makes concurrent writes wait and apply on top of the rebuilt state
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            List<TaskSnapshot> snapshots = taskRepository.findOpenTaskSnapshots();
+            openTasks = new Long2ObjectOpenHashMap<>(snapshots.size());
+            workloads = new Long2ObjectOpenHashMap<>();
+            versions.clear();
+            snapshots.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getTasks().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public AssigneeWorkloadDto getWorkload(long assigneeId) {
+        lock.readLock().lock();
+        try {
+            Workload workload = workloads.get(assigneeId);
+            return workload == null ? Workload.empty(assigneeId) : workload.toDto(assigneeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(TaskSnapshot snapshot) {
+        if (!versions.advance(snapshot)) {
+            return;
+        }
+        TaskSnapshot previous = openTasks.remove(snapshot.getId().longValue());
+        if (previous != null) {
+            Workload workload = workloads.get(previous.getAssigneeId().longValue());
+            workload.remove(previous);
+            if (workload.isEmpty()) {
+                workloads.remove(previous.getAssigneeId().longValue());
+            }
+        }
+        if (snapshot.isOpen() && snapshot.getAssigneeId() != null) {
+            openTasks.put(snapshot.getId().longValue(), snapshot);
+            Workload workload = workloads.get(snapshot.getAssigneeId().longValue());
+            if (workload == null) {
+                workload = new Workload();
+                workloads.put(snapshot.getAssigneeId().longValue(), workload);
+            }
+            workload.add(snapshot);
+        }
+    }
+
+    private static final class Workload {
+        private final int[] byStatus = new int[STATUSES.length];
+        private final int[] byPriority = new int[PRIORITIES.length];
+        // deadline -> number of open tasks due then; firstLongKey() is the next deadline
+        private final Long2IntRBTreeMap deadlines = new Long2IntRBTreeMap();
+        private int openTaskCount;
+
+        void add(TaskSnapshot task) {
+            openTaskCount++;
+            byStatus[task.getStatus().ordinal()]++;
+            if (task.getPriority() != null) {
+                byPriority[task.getPriority().ordinal()]++;
+            }
+            if (task.getTaskDeadlineTime() != null) {
+                long deadline = task.getTaskDeadlineTime();
+                deadlines.put(deadline, deadlines.get(deadline) + 1);
+            }
+        }
+
+        void remove(TaskSnapshot task) {
+            openTaskCount--;
+            byStatus[task.getStatus().ordinal()]--;
+            if (task.getPriority() != null) {
+                byPriority[task.getPriority().ordinal()]--;
+            }
+            if (task.getTaskDeadlineTime() != null) {
+                long deadline = task.getTaskDeadlineTime();
+                int remaining = deadlines.get(deadline) - 1;
+                if (remaining > 0) {
+                    deadlines.put(deadline, remaining);
+                } else {
+                    deadlines.remove(deadline);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return openTaskCount == 0;
+        }
+
+        AssigneeWorkloadDto toDto(long assigneeId) {
+            Map<TaskStatus, Integer> statusCounts = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                if (byStatus[status.ordinal()] > 0) {
+                    statusCounts.put(status, byStatus[status.ordinal()]);
+                }
+            }
+            Map<Priority, Integer> priorityCounts = new EnumMap<>(Priority.class);
+            for (Priority priority : PRIORITIES) {
+                if (byPriority[priority.ordinal()] > 0) {
+                    priorityCounts.put(priority, byPriority[priority.ordinal()]);
+                }
+            }
+            Long nextDeadline = deadlines.isEmpty() ? null : deadlines.firstLongKey();
+            return new AssigneeWorkloadDto(assigneeId, openTaskCount, statusCounts, priorityCounts, nextDeadline);
+        }
+
+        static AssigneeWorkloadDto empty(long assigneeId) {
+            return new AssigneeWorkloadDto(assigneeId, 0, new EnumMap<>(TaskStatus.class), new EnumMap<>(Priority.class), null);
+        }
+    }
+}
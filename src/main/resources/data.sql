@@ -1,7 +1,17 @@
-INSERT INTO task_management (reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority) VALUES
-(101, 'ORDER', 'CREATE_INVOICE', 'Create invoice for order 101', 'ASSIGNED', 1, 1735689600000, 'HIGH'),
-(101, 'ORDER', 'ARRANGE_PICKUP', 'Arrange pickup for order 101', 'COMPLETED', 1, 1735689600000, 'HIGH'),
-(102, 'ORDER', 'CREATE_INVOICE', 'Create invoice for order 102', 'ASSIGNED', 2, 1735776000000, 'MEDIUM'),
-(201, 'ENTITY', 'ASSIGN_CUSTOMER_TO_SALES_PERSON', 'Assign customer 201 to sales person', 'ASSIGNED', 2, 1735862400000, 'LOW'),
-(201, 'ENTITY', 'ASSIGN_CUSTOMER_TO_SALES_PERSON', 'Assign customer 201 to sales person', 'ASSIGNED', 3, 1735862400000, 'LOW'),
-(103, 'ORDER', 'COLLECT_PAYMENT', 'Collect payment for order 103', 'CANCELLED', 1, 1735948800000, 'MEDIUM');
+INSERT INTO task_management (id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority) VALUES
+(1, 101, 'ORDER', 'CREATE_INVOICE', 'Create invoice for order 101', 'ASSIGNED', 1, 1735689600000, 'HIGH'),
+(2, 101, 'ORDER', 'ARRANGE_PICKUP', 'Arrange pickup for order 101', 'COMPLETED', 1, 1735689600000, 'HIGH'),
+(3, 102, 'ORDER', 'CREATE_INVOICE', 'Create invoice for order 102', 'ASSIGNED', 2, 1735776000000, 'MEDIUM'),
+(4, 201, 'ENTITY', 'ASSIGN_CUSTOMER_TO_SALES_PERSON', 'Assign customer 201 to sales person', 'ASSIGNED', 2, 1735862400000, 'LOW'),
+(5, 201, 'ENTITY', 'ASSIGN_CUSTOMER_TO_SALES_PERSON', 'Assign customer 201 to sales person', 'ASSIGNED', 3, 1735862400000, 'LOW'),
+(6, 103, 'ORDER', 'COLLECT_PAYMENT', 'Collect payment for order 103', 'CANCELLED', 1, 1735948800000, 'MEDIUM');
+
+-- Seed rows use explicit ids, so move the sequence past them before Hibernate reserves its first id block.
+ALTER SEQUENCE task_management_seq RESTART WITH 100;
+
+-- Seed rows count as written at startup, so TaskArchiver ages them like any other task, and start at version 0.
+UPDATE task_management SET updated_at = CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000 AS BIGINT), version = 0;
+
+-- List read model (task_list_view); after this, write paths keep it in step through TaskListProjection.
+INSERT INTO task_list_view (id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority, version)
+SELECT id, reference_id, reference_type, task, description, status, assignee_id, task_deadline_time, priority, version FROM task_management;
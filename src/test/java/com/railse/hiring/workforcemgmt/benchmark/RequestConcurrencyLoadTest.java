@@ -0,0 +1,177 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.WorkforcemgmtApplication;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a burst of concurrent fetch-by-date requests at a locally started app (H2) in the default mode and in the
+ * virtual-threads profile, and prints p50/p99/max latency plus the highest number of requests the server had in flight.
+ * Every request also blocks for {@code loadtest.blocking-io-ms} to stand in for a slow downstream call, which is what
+ * exhausts Tomcat's platform-thread pool. Run with {@code gradle benchmark} on Java 21 to see the virtual-thread effect;
+ * on Java 17 both modes use platform threads and the "virtual" column says so.
+ *
+ * Tunables (system properties): loadtest.clients (default 400), loadtest.requests-per-client (10),
+ * loadtest.blocking-io-ms (50), loadtest.tomcat-max-threads (200, Tomcat's default).
+ */
+@Tag("benchmark")
+class RequestConcurrencyLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadtest.requests-per-client", 10);
+    private static final long BLOCKING_IO_MS = Long.getLong("loadtest.blocking-io-ms", 50L);
+    private static final int TOMCAT_MAX_THREADS = Integer.getInteger("loadtest.tomcat-max-threads", 200);
+
+    private static final String FETCH_BODY = "{\"start_date\":1735600000000,\"end_date\":1736000000000,\"assignee_ids\":[1,2,3]}";
+
+    @BeforeAll
+    static void printHeader() {
+        System.out.printf("%-16s %-8s %-10s %-10s %-10s %-10s %-12s %-8s%n",
+                "mode", "virtual", "p50 ms", "p99 ms", "max ms", "req/s", "max inflight", "errors");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"default", "virtual-threads"})
+    void fetchTasksByDate_underBurstLoad(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = start(mode)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            LoadProbe probe = context.getBean(LoadProbe.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(8))
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/task-mgmt/fetch-by-date/v2"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.ofString(FETCH_BODY))
+                    .build();
+
+            // One warm-up pass so JIT and connection setup don't land in the measured burst
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+            probe.reset();
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>(CLIENTS * REQUESTS_PER_CLIENT));
+            AtomicInteger errors = new AtomicInteger();
+            CountDownLatch startSignal = new CountDownLatch(1);
+            ExecutorService callers = Executors.newFixedThreadPool(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                callers.submit(() -> {
+                    startSignal.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+            long burstStart = System.nanoTime();
+            startSignal.countDown();
+            callers.shutdown();
+            assertThat(callers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+            double elapsedSeconds = (System.nanoTime() - burstStart) / 1_000_000_000.0;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf("%-16s %-8s %-10.1f %-10.1f %-10.1f %-10.0f %-12d %-8d%n",
+                    mode, probe.sawVirtualThread(), percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    sorted.get(sorted.size() - 1) / 1_000_000.0, sorted.size() / elapsedSeconds,
+                    probe.maxInFlight(), errors.get());
+            assertThat(sorted).hasSize(CLIENTS * REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(WorkforcemgmtApplication.class, LoadProbe.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        // Accept the whole burst so queueing shows up as latency rather than refused connections
+                        "server.tomcat.accept-count=" + CLIENTS,
+                        "server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "logging.level.root=WARN");
+        if (!"default".equals(mode)) {
+            builder.profiles(mode);
+        }
+        return builder.run();
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    // Counts requests the server is working on and adds the simulated blocking call
+    @TestConfiguration(proxyBeanMethods = false)
+    static class LoadProbe {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicBoolean virtual = new AtomicBoolean();
+
+        @Bean
+        Filter loadProbeFilter() {
+            return (request, response, chain) -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                // Thread.isVirtual() is Java 21 API; VirtualThread's toString carries the marker on every JDK that has them
+                if (Thread.currentThread().toString().startsWith("VirtualThread")) {
+                    virtual.set(true);
+                }
+                try {
+                    Thread.sleep(BLOCKING_IO_MS);
+                    chain.doFilter(request, response);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            };
+        }
+
+        void reset() {
+            maxInFlight.set(0);
+            virtual.set(false);
+        }
+
+        int maxInFlight() {
+            return maxInFlight.get();
+        }
+
+        boolean sawVirtualThread() {
+            return virtual.get();
+        }
+    }
+}
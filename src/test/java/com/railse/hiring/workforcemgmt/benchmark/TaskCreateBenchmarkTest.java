@@ -0,0 +1,78 @@
+package com.railse.hiring.workforcemgmt.benchmark;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.dto.TaskCreateRequest;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.service.TaskManagementService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures createTasks throughput (inserts per second) for several request sizes.
+ * Run with {@code gradle benchmark}; excluded from the regular test task.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class TaskCreateBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private TaskManagementService taskManagementService;
+
+    private static long referenceSequence = 10_000L;
+
+    @BeforeAll
+    static void printHeader() {
+        System.out.printf("%-12s %-14s %-14s%n", "request size", "avg ms", "inserts/sec");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000, 5_000, 20_000})
+    void createTasks_throughput(int requestSize) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            taskManagementService.createTasks(buildRequest(requestSize));
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            TaskCreateRequest request = buildRequest(requestSize);
+            long start = System.nanoTime();
+            int created = taskManagementService.createTasks(request).size();
+            totalNanos += System.nanoTime() - start;
+            assertThat(created).isEqualTo(requestSize);
+        }
+
+        double avgMillis = totalNanos / 1_000_000.0 / MEASURED_ROUNDS;
+        double insertsPerSecond = requestSize * MEASURED_ROUNDS / (totalNanos / 1_000_000_000.0);
+        System.out.printf("%-12d %-14.2f %-14.0f%n", requestSize, avgMillis, insertsPerSecond);
+    }
+
+    private static TaskCreateRequest buildRequest(int size) {
+        List<TaskCreateRequest.RequestItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskCreateRequest.RequestItem item = new TaskCreateRequest.RequestItem();
+            item.setReferenceId(referenceSequence++);
+            item.setReferenceType(ReferenceType.ORDER);
+            item.setTask(Task.CREATE_INVOICE);
+            item.setAssigneeId((long) (i % 50));
+            item.setPriority(Priority.values()[i % Priority.values().length]);
+            item.setTaskDeadlineTime(1_750_000_000_000L + i * 60_000L);
+            items.add(item);
+        }
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setRequests(items);
+        return request;
+    }
+}
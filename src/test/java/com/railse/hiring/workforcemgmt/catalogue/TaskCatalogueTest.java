@@ -0,0 +1,83 @@
+package com.railse.hiring.workforcemgmt.catalogue;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCatalogueTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void getTasks_shouldUseEnumMapping_whenNoLocationConfigured() {
+        // Arrange
+        TaskCatalogue catalogue = new TaskCatalogue(new DefaultResourceLoader(), "");
+
+        // Act
+        List<Task> orderTasks = catalogue.getTasks(ReferenceType.ORDER);
+
+        // Assert
+        assertThat(orderTasks).isSameAs(Task.getTasksByReferenceType(ReferenceType.ORDER));
+        assertThat(catalogue.getTasks(ReferenceType.ENQUIRY)).isEmpty();
+    }
+
+    @Test
+    void getTasks_shouldOverrideOnlyListedReferenceTypes_whenFileConfigured() throws IOException {
+        // Arrange
+        Path file = write("ORDER=CREATE_INVOICE\nENQUIRY=ARRANGE_PICKUP, COLLECT_PAYMENT\n", 1_000L);
+
+        // Act
+        TaskCatalogue catalogue = new TaskCatalogue(new DefaultResourceLoader(), file.toUri().toString());
+
+        // Assert
+        assertThat(catalogue.getTasks(ReferenceType.ORDER)).containsExactly(Task.CREATE_INVOICE);
+        assertThat(catalogue.getTasks(ReferenceType.ENQUIRY)).containsExactly(Task.ARRANGE_PICKUP, Task.COLLECT_PAYMENT);
+        assertThat(catalogue.getTasks(ReferenceType.ENTITY)).containsExactly(Task.ASSIGN_CUSTOMER_TO_SALES_PERSON);
+    }
+
+    @Test
+    void refresh_shouldReload_whenFileChanges() throws IOException {
+        // Arrange
+        Path file = write("ORDER=CREATE_INVOICE\n", 1_000L);
+        TaskCatalogue catalogue = new TaskCatalogue(new DefaultResourceLoader(), file.toUri().toString());
+        write("ORDER=COLLECT_PAYMENT\n", 2_000L);
+
+        // Act
+        catalogue.refresh();
+
+        // Assert
+        assertThat(catalogue.getTasks(ReferenceType.ORDER)).containsExactly(Task.COLLECT_PAYMENT);
+    }
+
+    @Test
+    void refresh_shouldKeepLastGoodCatalogue_whenFileIsInvalid() throws IOException {
+        // Arrange
+        Path file = write("ORDER=CREATE_INVOICE\n", 1_000L);
+        TaskCatalogue catalogue = new TaskCatalogue(new DefaultResourceLoader(), file.toUri().toString());
+        write("ORDER=NOT_A_TASK\n", 2_000L);
+
+        // Act
+        catalogue.refresh();
+
+        // Assert
+        assertThat(catalogue.getTasks(ReferenceType.ORDER)).containsExactly(Task.CREATE_INVOICE);
+    }
+
+    private Path write(String content, long lastModified) throws IOException {
+        Path file = dir.resolve("task-catalogue.properties");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+}
@@ -3,29 +3,49 @@ package com.railse.hiring.workforcemgmt.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
 import com.railse.hiring.workforcemgmt.common.exception.ResourceNotFoundException;
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
+import com.railse.hiring.workforcemgmt.common.model.response.Pagination;
 import com.railse.hiring.workforcemgmt.dto.*;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.model.ReferenceAssignment;
 import com.railse.hiring.workforcemgmt.model.enums.Priority;
 import com.railse.hiring.workforcemgmt.model.enums.Task;
 import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
 import com.railse.hiring.workforcemgmt.service.TaskManagementService;
+import com.railse.hiring.workforcemgmt.service.TaskQueryService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -38,9 +58,18 @@ class TaskManagementControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @MockBean
     private TaskManagementService taskManagementService;
 
+    @MockBean
+    private TaskQueryService taskQueryService;
+
     @Test
     void getTaskById_shouldReturnTask_whenFound() throws Exception {
         // Arrange
@@ -49,7 +78,7 @@ class TaskManagementControllerTest {
         taskDto.setReferenceId(101L);
         taskDto.setTask(Task.CREATE_INVOICE);
         taskDto.setStatus(TaskStatus.ASSIGNED);
-        when(taskManagementService.findTaskById(1L)).thenReturn(taskDto);
+        when(taskQueryService.findTaskById(1L)).thenReturn(taskDto);
 
         // Act & Assert
         mockMvc.perform(get("/task-mgmt/1"))
@@ -63,7 +92,7 @@ class TaskManagementControllerTest {
     @Test
     void getTaskById_shouldReturnNotFound_whenDoesNotExist() throws Exception {
         // Arrange
-        when(taskManagementService.findTaskById(99L)).thenThrow(new ResourceNotFoundException("Task not found with id: 99"));
+        when(taskQueryService.findTaskById(99L)).thenThrow(new ResourceNotFoundException("Task not found with id: 99"));
 
         // Act & Assert
         mockMvc.perform(get("/task-mgmt/99"))
@@ -72,6 +101,36 @@ class TaskManagementControllerTest {
                 .andExpect(jsonPath("$.status.message").value("Task not found with id: 99"));
     }
 
+    @Test
+    void getTaskById_shouldChangeETag_whenACommentIsAdded() throws Exception {
+        // Arrange
+        TaskManagementDto taskDto = new TaskManagementDto();
+        taskDto.setId(1L);
+        taskDto.setVersion(3L);
+        taskDto.setComments(List.of());
+        taskDto.setActivities(List.of(new TaskActivityDto()));
+        TaskManagementDto commented = new TaskManagementDto();
+        commented.setId(1L);
+        commented.setVersion(3L);
+        commented.setComments(List.of(new TaskCommentDto()));
+        commented.setActivities(List.of(new TaskActivityDto()));
+        when(taskQueryService.findTaskById(1L)).thenReturn(taskDto, taskDto, commented);
+
+        // Act
+        String eTag = mockMvc.perform(get("/task-mgmt/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert
+        assertThat(eTag).isEqualTo("\"3.0.1\"");
+        mockMvc.perform(get("/task-mgmt/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/task-mgmt/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3.1.1\""))
+                .andExpect(jsonPath("$.data.comments.length()").value(1));
+    }
+
     @Test
     void createTasks_shouldReturnCreatedTasks() throws Exception {
         // Arrange
@@ -131,6 +190,39 @@ class TaskManagementControllerTest {
                 .andExpect(jsonPath("$.data[0].description").value("Task is done"));
     }
 
+    @Test
+    void bulkUpdateTasks_shouldReturnPerItemResults() throws Exception {
+        // Arrange
+        UpdateTaskRequest.RequestItem found = new UpdateTaskRequest.RequestItem();
+        found.setTaskId(1L);
+        found.setTaskStatus(TaskStatus.COMPLETED);
+        UpdateTaskRequest.RequestItem missing = new UpdateTaskRequest.RequestItem();
+        missing.setTaskId(99L);
+        missing.setTaskStatus(TaskStatus.COMPLETED);
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setRequests(List.of(found, missing));
+
+        TaskManagementDto updatedDto = new TaskManagementDto();
+        updatedDto.setId(1L);
+        updatedDto.setStatus(TaskStatus.COMPLETED);
+
+        when(taskManagementService.bulkUpdateTasks(any(UpdateTaskRequest.class))).thenReturn(List.of(
+                new TaskUpdateResultDto(1L, TaskUpdateResultDto.Outcome.UPDATED, "Task updated.", updatedDto),
+                new TaskUpdateResultDto(99L, TaskUpdateResultDto.Outcome.NOT_FOUND, "Task not found with id: 99", null)));
+
+        // Act & Assert
+        mockMvc.perform(post("/task-mgmt/update/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.code").value(200))
+                .andExpect(jsonPath("$.data[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.data[0].task.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data[1].task_id").value(99L))
+                .andExpect(jsonPath("$.data[1].outcome").value("NOT_FOUND"));
+    }
+
     @Test
     void assignByReference_shouldReturnSuccessMessage() throws Exception {
         // Arrange
@@ -151,6 +243,43 @@ class TaskManagementControllerTest {
                 .andExpect(jsonPath("$.data").value(successMessage));
     }
 
+    @Test
+    void assignByReference_shouldReturnConflict_whenReferenceReassignedConcurrently() throws Exception {
+        // Arrange
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(201L);
+        assignRequest.setReferenceType(ReferenceType.ENTITY);
+        assignRequest.setAssigneeId(5L);
+
+        when(taskManagementService.assignByReference(any(AssignByReferenceRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ReferenceAssignment.class, 201L));
+
+        // Act & Assert
+        mockMvc.perform(post("/task-mgmt/assign-by-ref")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(assignRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status.code").value(409));
+    }
+
+    @Test
+    void assignByReference_shouldReturnBadRequest_whenNoAssigneeOrCandidates() throws Exception {
+        // Arrange
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(201L);
+        assignRequest.setReferenceType(ReferenceType.ENTITY);
+
+        when(taskManagementService.assignByReference(any(AssignByReferenceRequest.class)))
+                .thenThrow(new InvalidRequestException("Either assignee_id or a non-empty candidate_assignee_ids is required"));
+
+        // Act & Assert
+        mockMvc.perform(post("/task-mgmt/assign-by-ref")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(assignRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.code").value(400));
+    }
+
     @Test
     void fetchByDate_shouldReturnFilteredTasks() throws Exception {
         // Arrange
@@ -164,7 +293,8 @@ class TaskManagementControllerTest {
         taskDto.setAssigneeId(1L);
         taskDto.setTaskDeadlineTime(1735689600000L);
 
-        when(taskManagementService.fetchTasksByDate(any(TaskFetchByDateRequest.class))).thenReturn(List.of(taskDto));
+        when(taskQueryService.fetchTasksByDate(any(TaskFetchByDateRequest.class)))
+                .thenReturn(new PagedResult<>(List.of(taskDto), new Pagination(1L, 1, true)));
 
         // Act & Assert
         mockMvc.perform(post("/task-mgmt/fetch-by-date/v2")
@@ -173,7 +303,107 @@ class TaskManagementControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.code").value(200))
                 .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[0].assignee_id").value(1L));
+                .andExpect(jsonPath("$.data[0].assignee_id").value(1L))
+                .andExpect(jsonPath("$.pagination.next_cursor").value(1L))
+                .andExpect(jsonPath("$.pagination.page_size").value(1))
+                .andExpect(jsonPath("$.pagination.has_more").value(true));
+    }
+
+    @Test
+    void exportByDate_shouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        TaskFetchByDateRequest fetchRequest = new TaskFetchByDateRequest();
+        fetchRequest.setAssigneeIds(Collections.singletonList(1L));
+        fetchRequest.setStartDate(1735689000000L);
+        fetchRequest.setEndDate(1735689900000L);
+
+        when(taskQueryService.exportTasksByDate(any(TaskFetchByDateRequest.class), any())).thenAnswer(invocation -> {
+            Consumer<TaskManagementDto> sink = invocation.getArgument(1);
+            for (long id = 1; id <= 2; id++) {
+                TaskManagementDto taskDto = new TaskManagementDto();
+                taskDto.setId(id);
+                taskDto.setAssigneeId(1L);
+                sink.accept(taskDto);
+            }
+            return 2L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/task-mgmt/fetch-by-date/export")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(fetchRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[1]).get("assignee_id").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    void feed_shouldPushTaskDelta_whenSubscribedAssigneesTaskChanges() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/task-mgmt/feed").param("assignee_id", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        eventPublisher.publishEvent(new TaskChangedEvent(List.of(1L), List.of()));
+
+        // Assert
+        // Wait for the whole event, which ends with a blank line after its data, not just its first bytes
+        long deadline = System.currentTimeMillis() + 5_000L;
+        String body = result.getResponse().getContentAsString();
+        while (!(body.contains("event:task") && body.indexOf("\n\n", body.indexOf("data:")) > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:task", "id:1");
+        assertThat(objectMapper.readTree(body.substring(body.indexOf("data:") + 5).lines().findFirst().orElseThrow())
+                .get("reference_id").asLong()).isEqualTo(101L);
+    }
+
+    @Test
+    void feed_shouldPushTaskDelta_onlyAfterTheWritingTransactionCommits() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/task-mgmt/feed").param("assignee_id", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        String beforeCommit = transaction.execute(status -> {
+            eventPublisher.publishEvent(new TaskChangedEvent(List.of(1L), List.of()));
+            try {
+                Thread.sleep(200L);
+                return result.getResponse().getContentAsString();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertThat(beforeCommit).doesNotContain("event:task");
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!result.getResponse().getContentAsString().contains("id:1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        assertThat(result.getResponse().getContentAsString()).contains("event:task", "id:1");
+    }
+
+    @Test
+    void feed_shouldReturnBadRequest_whenNoSubscriptionKeyGiven() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/task-mgmt/feed").param("reference_id", "101"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -200,6 +430,72 @@ class TaskManagementControllerTest {
                 .andExpect(jsonPath("$.data.priority").value("HIGH"));
     }
 
+    @Test
+    void updateTaskPriority_shouldPassIfMatchAsExpectedVersion_andReturnTheNewVersionAsETag() throws Exception {
+        // Arrange
+        Long taskId = 1L;
+        UpdateTaskPriorityRequest request = new UpdateTaskPriorityRequest();
+        request.setPriority(Priority.LOW);
+
+        TaskManagementDto updatedDto = new TaskManagementDto();
+        updatedDto.setId(taskId);
+        updatedDto.setPriority(Priority.LOW);
+        updatedDto.setVersion(4L);
+
+        when(taskManagementService.updateTaskPriority(eq(taskId), argThat(argument -> Long.valueOf(3L).equals(argument.getExpectedVersion()))))
+                .thenReturn(updatedDto);
+
+        // Act & Assert
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.data.version").value(4));
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .header(HttpHeaders.IF_MATCH, "\"three\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateTaskPriority_shouldReturnPreconditionFailed_whenIfMatchIsStale_andBadRequest_whenBodyDisagrees() throws Exception {
+        // Arrange
+        Long taskId = 1L;
+        UpdateTaskPriorityRequest request = new UpdateTaskPriorityRequest();
+        request.setPriority(Priority.LOW);
+        UpdateTaskPriorityRequest disagreeing = new UpdateTaskPriorityRequest();
+        disagreeing.setPriority(Priority.LOW);
+        disagreeing.setExpectedVersion(2L);
+
+        when(taskManagementService.updateTaskPriority(eq(taskId), any(UpdateTaskPriorityRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Task 1 is at version 5, expected 3", null));
+
+        // Act & Assert
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status.code").value(412));
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/task-mgmt/" + taskId + "/priority")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(disagreeing)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getTasksByPriority_shouldReturnFilteredTasks() throws Exception {
         // Arrange
@@ -208,14 +504,19 @@ class TaskManagementControllerTest {
         taskDto.setId(1L);
         taskDto.setPriority(Priority.HIGH);
 
-        when(taskManagementService.findTasksByPriority(priority)).thenReturn(List.of(taskDto));
+        when(taskQueryService.findTasksByPriority(eq(priority), eq(10L), eq(50)))
+                .thenReturn(new PagedResult<>(List.of(taskDto), new Pagination(null, 50, false)));
 
         // Act & Assert
-        mockMvc.perform(get("/task-mgmt/priority/" + priority))
+        mockMvc.perform(get("/task-mgmt/priority/" + priority)
+                        .param("cursor", "10")
+                        .param("page_size", "50"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.code").value(200))
                 .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[0].priority").value("HIGH"));
+                .andExpect(jsonPath("$.data[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.pagination.page_size").value(50))
+                .andExpect(jsonPath("$.pagination.has_more").value(false));
     }
 
     @Test
@@ -252,7 +553,7 @@ class TaskManagementControllerTest {
         taskDto.setActivities(Collections.singletonList(new TaskActivityDto()));
         taskDto.setComments(Collections.singletonList(new TaskCommentDto()));
 
-        when(taskManagementService.getTaskDetails(taskId)).thenReturn(taskDto);
+        when(taskQueryService.getTaskDetails(taskId)).thenReturn(taskDto);
 
         // Act & Assert
         mockMvc.perform(get("/task-mgmt/" + taskId + "/details"))
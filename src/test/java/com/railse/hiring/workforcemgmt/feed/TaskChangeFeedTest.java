@@ -0,0 +1,236 @@
+package com.railse.hiring.workforcemgmt.feed;
+
+import com.railse.hiring.workforcemgmt.common.exception.ServiceUnavailableException;
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.mapper.ITaskManagementMapper;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskChangeFeedTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ITaskManagementMapper taskMapper = mock(ITaskManagementMapper.class);
+    private final Map<Long, TaskManagement> tasks = new ConcurrentHashMap<>();
+    // Emitters handed out by the next subscribe calls, in order
+    private final Deque<RecordingEmitter> emitters = new ArrayDeque<>();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private TaskChangeFeed feed;
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        if (feed != null) {
+            feed.stop();
+        }
+    }
+
+    @Test
+    void dropStalledSubscribers_shouldDropAClientThatStoppedReading_whileOthersKeepReceiving() throws Exception {
+        // Arrange
+        feed = feed(64, 10, 1, 100, 50L);
+        task(1L, 10L, 101L);
+        task(2L, 20L, 102L);
+        RecordingEmitter stalled = new RecordingEmitter(unblock);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        emitters.add(stalled);
+        emitters.add(healthy);
+        feed.subscribeToAssignee(10L);
+        feed.subscribeToAssignee(20L);
+        feed.onTaskChanged(changed(1L));
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        feed.onTaskChanged(changed(2L));
+        Thread.sleep(100L);
+        feed.dropStalledSubscribers();
+        feed.onTaskChanged(changed(2L));
+
+        // Assert
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).contains("id:2");
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).contains("id:2");
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+        assertThat(feed.getDroppedSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onTaskChanged_shouldRouteEachTaskToItsAssigneeAndReferenceSubscribers() throws Exception {
+        // Arrange
+        feed = feed(64, 10, 2, 100, 5_000L);
+        task(1L, 10L, 101L);
+        task(2L, 20L, 102L);
+        RecordingEmitter byAssignee = new RecordingEmitter(null);
+        RecordingEmitter byReference = new RecordingEmitter(null);
+        RecordingEmitter unrelated = new RecordingEmitter(null);
+        emitters.add(byAssignee);
+        emitters.add(byReference);
+        emitters.add(unrelated);
+        feed.subscribeToAssignee(10L);
+        feed.subscribeToReference(102L, ReferenceType.ORDER);
+        feed.subscribeToAssignee(30L);
+
+        // Act
+        feed.onTaskChanged(changed(1L, 2L));
+
+        // Assert
+        assertThat(byAssignee.sent.poll(5, TimeUnit.SECONDS)).contains("id:1");
+        assertThat(byReference.sent.poll(5, TimeUnit.SECONDS)).contains("id:2");
+        Thread.sleep(100L);
+        assertThat(byAssignee.sent).isEmpty();
+        assertThat(byReference.sent).isEmpty();
+        assertThat(unrelated.sent).isEmpty();
+    }
+
+    @Test
+    void onTaskChanged_shouldDisconnectASubscriber_whenItsQueueIsFull() throws Exception {
+        // Arrange
+        feed = feed(2, 10, 1, 100, 60_000L);
+        task(1L, 10L, 101L);
+        RecordingEmitter slow = new RecordingEmitter(unblock);
+        emitters.add(slow);
+        feed.subscribeToAssignee(10L);
+        feed.onTaskChanged(changed(1L));
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            feed.onTaskChanged(changed(1L));
+        }
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (feed.getSubscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(feed.getSubscriberCount()).isZero();
+        assertThat(feed.getDroppedSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_shouldRejectWithServiceUnavailable_whenAtTheSubscriberCap() {
+        // Arrange
+        feed = feed(64, 1, 1, 100, 5_000L);
+        feed.subscribeToAssignee(10L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> feed.subscribeToReference(101L, ReferenceType.ORDER))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onTaskChanged_shouldCountSkippedChanges_whenTheLoaderIsBacklogged() throws Exception {
+        // Arrange
+        feed = feed(64, 10, 1, 1, 5_000L);
+        CountDownLatch loading = new CountDownLatch(1);
+        when(taskRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            loading.countDown();
+            unblock.await();
+            return List.of();
+        });
+        feed.subscribeToAssignee(10L);
+        feed.onTaskChanged(changed(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        feed.onTaskChanged(changed(2L));
+        feed.onTaskChanged(changed(3L));
+
+        // Assert
+        assertThat(feed.getSkippedChangeCount()).isEqualTo(1);
+    }
+
+    private TaskChangeFeed feed(int queueCapacity, int maxSubscribers, int senderThreads, int pendingChanges, long sendTimeoutMs) {
+        when(taskRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<TaskManagement> found = new ArrayList<>();
+            ids.forEach(id -> found.add(tasks.get(id)));
+            return found;
+        });
+        when(taskMapper.modelListToDtoList(any())).thenAnswer(invocation -> {
+            Collection<TaskManagement> models = invocation.getArgument(0);
+            return models.stream().map(TaskChangeFeedTest::toDto).collect(Collectors.toList());
+        });
+        TaskChangeFeed created = new TaskChangeFeed(taskRepository, taskMapper, queueCapacity, maxSubscribers, 60_000L,
+                senderThreads, pendingChanges, sendTimeoutMs, 8) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.isEmpty() ? new RecordingEmitter(null) : emitters.poll();
+            }
+        };
+        created.start();
+        return created;
+    }
+
+    private void task(Long id, Long assigneeId, Long referenceId) {
+        TaskManagement task = new TaskManagement();
+        task.setId(id);
+        task.setAssigneeId(assigneeId);
+        task.setReferenceId(referenceId);
+        task.setReferenceType(ReferenceType.ORDER);
+        tasks.put(id, task);
+    }
+
+    private static TaskManagementDto toDto(TaskManagement task) {
+        TaskManagementDto dto = new TaskManagementDto();
+        dto.setId(task.getId());
+        dto.setAssigneeId(task.getAssigneeId());
+        dto.setReferenceId(task.getReferenceId());
+        dto.setReferenceType(task.getReferenceType());
+        return dto;
+    }
+
+    private static TaskChangedEvent changed(Long... taskIds) {
+        return new TaskChangedEvent(List.of(taskIds), List.of());
+    }
+
+    // Stands in for the servlet response: records each event's text, or blocks like a socket whose client stopped reading
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch blockUntil;
+
+        RecordingEmitter(CountDownLatch blockUntil) {
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(builder.build().stream().map(data -> String.valueOf(data.getData())).collect(Collectors.joining()));
+        }
+    }
+}
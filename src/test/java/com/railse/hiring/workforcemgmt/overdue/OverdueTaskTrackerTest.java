@@ -0,0 +1,121 @@
+package com.railse.hiring.workforcemgmt.overdue;
+
+import com.railse.hiring.workforcemgmt.dto.OverdueTaskDto;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskOverdueEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OverdueTaskTrackerTest {
+
+    // rebuild() scans at the wall clock, so fixture deadlines sit safely in the future
+    private static final long BASE = System.currentTimeMillis() + 3_600_000L;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private OverdueTaskTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findAssignedTaskSnapshotsWithDeadline()).thenReturn(List.of(
+                assigned(1L, 10L, BASE + 1_000L, 0L),
+                assigned(2L, 20L, BASE + 3_000L, 0L),
+                assigned(3L, 10L, BASE + 2_000L, 0L)));
+        tracker = new OverdueTaskTracker(taskRepository, eventPublisher);
+        tracker.rebuild();
+    }
+
+    @Test
+    void scan_shouldEmitOverdueEventsOnceInDeadlineOrder_whenDeadlinesPass() {
+        // Act
+        tracker.scan(BASE + 2_500L);
+        tracker.scan(BASE + 2_600L);
+
+        // Assert
+        ArgumentCaptor<TaskOverdueEvent> events = ArgumentCaptor.forClass(TaskOverdueEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(TaskOverdueEvent::getTaskId).containsExactly(1L, 3L);
+        assertThat(tracker.findOverdue(null)).extracting(OverdueTaskDto::getTaskId).containsExactly(1L, 3L);
+        assertThat(tracker.findOverdue(List.of(20L))).isEmpty();
+    }
+
+    @Test
+    void onTaskChanged_shouldDropTasksThatLeaveAssignedOrMoveTheirDeadline() {
+        // Arrange
+        tracker.scan(BASE + 1_500L);
+
+        // Act
+        tracker.onTaskChanged(changed(
+                new TaskSnapshot(1L, 10L, TaskStatus.STARTED, Priority.HIGH, BASE + 1_000L, 1L),
+                new TaskSnapshot(3L, 10L, TaskStatus.CANCELLED, Priority.HIGH, BASE + 2_000L, 1L),
+                assigned(2L, 20L, BASE + 9_000L, 1L)));
+        tracker.scan(BASE + 5_000L);
+
+        // Assert
+        assertThat(tracker.findOverdue(null)).isEmpty();
+        verify(eventPublisher, times(1)).publishEvent(any(TaskOverdueEvent.class));
+    }
+
+    @Test
+    void onTaskChanged_shouldNotReportAnOverdueTaskAgain_whenItsDeadlineIsUnchanged() {
+        // Arrange
+        tracker.scan(BASE + 1_500L);
+
+        // Act
+        tracker.onTaskChanged(changed(new TaskSnapshot(1L, 10L, TaskStatus.ASSIGNED, Priority.LOW, BASE + 1_000L, 1L)));
+        tracker.scan(BASE + 1_600L);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(any(TaskOverdueEvent.class));
+        assertThat(tracker.findOverdue(null)).singleElement()
+                .satisfies(task -> assertThat(task.getPriority()).isEqualTo(Priority.LOW));
+    }
+
+    @Test
+    void onTaskChanged_shouldIgnoreASnapshot_whenANewerOneOfTheTaskWasAlreadyApplied() {
+        // Arrange
+        tracker.onTaskChanged(changed(new TaskSnapshot(1L, 10L, TaskStatus.CANCELLED, Priority.HIGH, BASE + 1_000L, 2L)));
+
+        // Act
+        tracker.onTaskChanged(changed(assigned(1L, 30L, BASE + 1_200L, 1L)));
+        tracker.scan(BASE + 1_500L);
+
+        // Assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(tracker.findOverdue(null)).isEmpty();
+    }
+
+    @Test
+    void scan_shouldEmitNothing_whenNoDeadlineHasPassed() {
+        // Act
+        tracker.scan(BASE + 999L);
+
+        // Assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(tracker.findOverdue(null)).isEmpty();
+    }
+
+    private static TaskSnapshot assigned(Long id, Long assigneeId, Long deadline, Long version) {
+        return new TaskSnapshot(id, assigneeId, TaskStatus.ASSIGNED, Priority.HIGH, deadline, version);
+    }
+
+    private static TaskChangedEvent changed(TaskSnapshot... tasks) {
+        return new TaskChangedEvent(List.of(), List.of(tasks));
+    }
+}
@@ -0,0 +1,145 @@
+package com.railse.hiring.workforcemgmt.repository;
+
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.projection.TaskListProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TaskListProjection.class)
+class TaskListViewRepositoryTest {
+
+    private static final long START_DATE = 1_750_000_000_000L;
+    private static final long END_DATE = START_DATE + 7L * 24 * 60 * 60 * 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskListViewRepository taskListViewRepository;
+
+    @Autowired
+    private TaskListProjection taskListProjection;
+
+    @BeforeEach
+    void seedTasks() {
+        Random random = new Random(42);
+        List<TaskManagement> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            TaskManagement task = new TaskManagement();
+            task.setReferenceId(1000L + i);
+            task.setReferenceType(ReferenceType.ORDER);
+            task.setTask(Task.CREATE_INVOICE);
+            task.setAssigneeId(1L + random.nextInt(6));
+            task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+            task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+            // Spread deadlines from two weeks before the window to one week after it, hitting both edges.
+            long offset = (random.nextInt(29) - 14) * 12L * 60 * 60 * 1000;
+            task.setTaskDeadlineTime(i % 50 == 0 ? START_DATE : i % 50 == 1 ? END_DATE : START_DATE + offset);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        taskListProjection.rebuild();
+    }
+
+    @Test
+    void streamActiveByAssigneeIdInAndDeadlineWindow_shouldMatchStreamFilter() {
+        // Arrange
+        List<Long> assigneeIds = List.of(1L, 2L, 4L);
+        List<Long> expectedIds = taskRepository.findByAssigneeIdIn(assigneeIds).stream()
+                .filter(task ->
+                        task.getStatus() != TaskStatus.CANCELLED &&
+                        (
+                            (task.getTaskDeadlineTime() >= START_DATE &&
+                             task.getTaskDeadlineTime() <= END_DATE) ||
+                            (task.getTaskDeadlineTime() < START_DATE &&
+                             task.getStatus() == TaskStatus.ASSIGNED)
+                        )
+                )
+                .map(TaskManagement::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        // Act
+        List<Long> actualIds = activeInWindow(assigneeIds).stream()
+                .map(TaskManagementDto::getId)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(expectedIds).isNotEmpty();
+        assertThat(actualIds).isEqualTo(expectedIds);
+    }
+
+    @Test
+    void streamActiveByAssigneeIdInAndDeadlineWindow_shouldExcludeCancelledAndClosedOverdueTasks() {
+        // Act
+        List<TaskManagementDto> tasks = activeInWindow(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+
+        // Assert
+        assertThat(tasks).noneMatch(task -> task.getStatus() == TaskStatus.CANCELLED);
+        assertThat(tasks).filteredOn(task -> task.getTaskDeadlineTime() < START_DATE)
+                .allMatch(task -> task.getStatus() == TaskStatus.ASSIGNED);
+    }
+
+    @Test
+    void findActiveByAssigneeIdInAndDeadlineWindowAfter_shouldWalkAllRowsPageByPage() {
+        // Arrange
+        List<Long> assigneeIds = List.of(1L, 2L, 3L);
+        List<Long> expectedIds = activeInWindow(assigneeIds).stream()
+                .map(TaskManagementDto::getId)
+                .collect(Collectors.toList());
+
+        // Act
+        List<Long> pagedIds = new ArrayList<>();
+        long cursor = 0L;
+        List<TaskManagementDto> page;
+        do {
+            page = taskListViewRepository.findActiveByAssigneeIdInAndDeadlineWindowAfter(assigneeIds, START_DATE, END_DATE, cursor, Limit.of(25));
+            page.forEach(task -> pagedIds.add(task.getId()));
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 25);
+
+        // Assert
+        assertThat(pagedIds).isEqualTo(expectedIds);
+    }
+
+    @Test
+    void findByPriorityAfter_shouldReturnPageAfterCursor() {
+        // Arrange
+        List<TaskManagementDto> firstPage = taskListViewRepository.findByPriorityAfter(Priority.HIGH, 0L, Limit.of(10));
+
+        // Act
+        Long cursor = firstPage.get(firstPage.size() - 1).getId();
+        List<TaskManagementDto> secondPage = taskListViewRepository.findByPriorityAfter(Priority.HIGH, cursor, Limit.of(10));
+
+        // Assert
+        assertThat(firstPage).hasSize(10).allMatch(task -> task.getPriority() == Priority.HIGH);
+        assertThat(secondPage).hasSize(10).allMatch(task -> task.getId() > cursor && task.getPriority() == Priority.HIGH);
+    }
+
+    private List<TaskManagementDto> activeInWindow(List<Long> assigneeIds) {
+        try (Stream<TaskManagementDto> tasks = taskListViewRepository.streamActiveByAssigneeIdInAndDeadlineWindow(assigneeIds, START_DATE, END_DATE)) {
+            return tasks.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,899 @@
+package com.railse.hiring.workforcemgmt.service;
+
+import com.railse.hiring.workforcemgmt.activity.ActivityRecorder;
+import com.railse.hiring.workforcemgmt.archive.TaskArchiver;
+import com.railse.hiring.workforcemgmt.common.exception.InvalidRequestException;
+import com.railse.hiring.workforcemgmt.common.exception.ResourceNotFoundException;
+import com.railse.hiring.workforcemgmt.common.model.enums.ReferenceType;
+import com.railse.hiring.workforcemgmt.common.model.response.PagedResult;
+import com.railse.hiring.workforcemgmt.dto.AddCommentRequest;
+import com.railse.hiring.workforcemgmt.dto.AssignByReferenceRequest;
+import com.railse.hiring.workforcemgmt.dto.AssigneeWorkloadDto;
+import com.railse.hiring.workforcemgmt.dto.OverdueTaskDto;
+import com.railse.hiring.workforcemgmt.dto.DeadlineBucketDto;
+import com.railse.hiring.workforcemgmt.dto.TaskActivityDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationDto;
+import com.railse.hiring.workforcemgmt.dto.TaskAggregationRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskCommentDto;
+import com.railse.hiring.workforcemgmt.dto.TaskCreateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskFetchByDateRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskGroupCountDto;
+import com.railse.hiring.workforcemgmt.dto.TaskIngestRequest;
+import com.railse.hiring.workforcemgmt.dto.TaskIngestResultDto;
+import com.railse.hiring.workforcemgmt.dto.TaskManagementDto;
+import com.railse.hiring.workforcemgmt.dto.TaskSearchResultDto;
+import com.railse.hiring.workforcemgmt.dto.TaskUpdateResultDto;
+import com.railse.hiring.workforcemgmt.dto.UpdateTaskPriorityRequest;
+import com.railse.hiring.workforcemgmt.dto.UpdateTaskRequest;
+import com.railse.hiring.workforcemgmt.event.TaskChangedEvent;
+import com.railse.hiring.workforcemgmt.event.TaskSnapshot;
+import com.railse.hiring.workforcemgmt.model.TaskIdempotencyKey;
+import com.railse.hiring.workforcemgmt.model.TaskManagement;
+import com.railse.hiring.workforcemgmt.model.enums.ActivityType;
+import com.railse.hiring.workforcemgmt.model.enums.Priority;
+import com.railse.hiring.workforcemgmt.model.enums.Task;
+import com.railse.hiring.workforcemgmt.model.enums.TaskDimension;
+import com.railse.hiring.workforcemgmt.model.enums.TaskStatus;
+import com.railse.hiring.workforcemgmt.repository.ReferenceAssignmentRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskIdempotencyKeyRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskListViewRepository;
+import com.railse.hiring.workforcemgmt.repository.TaskRepository;
+import com.railse.hiring.workforcemgmt.outbox.InMemoryTaskOutboxPublisher;
+import com.railse.hiring.workforcemgmt.outbox.TaskOutboxMessage;
+import com.railse.hiring.workforcemgmt.outbox.TaskOutboxRelay;
+import com.railse.hiring.workforcemgmt.overdue.OverdueTaskTracker;
+import com.railse.hiring.workforcemgmt.search.TaskSearchIndex;
+import com.railse.hiring.workforcemgmt.workload.AssigneeWorkloadIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:service-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskManagementServiceImplTest {
+
+    @Autowired
+    private TaskManagementService taskManagementService;
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskListViewRepository taskListViewRepository;
+
+    @Autowired
+    private ReferenceAssignmentRepository referenceAssignmentRepository;
+
+    @Autowired
+    private TaskIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Autowired
+    private AssigneeWorkloadIndex workloadIndex;
+
+    @Autowired
+    private OverdueTaskTracker overdueTaskTracker;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Autowired
+    private InMemoryTaskOutboxPublisher outboxPublisher;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Test
+    void bulkUpdateTasks_shouldApplyEveryItemAndReportMissingIds() {
+        // Arrange
+        List<TaskManagementDto> created = createTasks(5);
+        List<UpdateTaskRequest.RequestItem> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            items.add(updateItem(created.get(i).getId(), TaskStatus.COMPLETED, null));
+        }
+        items.add(updateItem(-1L, TaskStatus.COMPLETED, null));
+        items.add(updateItem(created.get(4).getId(), TaskStatus.STARTED, "Picked up"));
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setRequests(items);
+
+        // Act
+        List<TaskUpdateResultDto> results = taskManagementService.bulkUpdateTasks(request);
+
+        // Assert
+        assertThat(results).extracting(TaskUpdateResultDto::getOutcome).containsExactly(
+                TaskUpdateResultDto.Outcome.UPDATED, TaskUpdateResultDto.Outcome.UPDATED,
+                TaskUpdateResultDto.Outcome.UPDATED, TaskUpdateResultDto.Outcome.UPDATED,
+                TaskUpdateResultDto.Outcome.NOT_FOUND, TaskUpdateResultDto.Outcome.UPDATED);
+        for (int i = 0; i < 4; i++) {
+            assertThat(taskRepository.findById(created.get(i).getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        }
+        assertThat(taskRepository.findById(created.get(4).getId()).orElseThrow())
+                .satisfies(task -> {
+                    assertThat(task.getStatus()).isEqualTo(TaskStatus.STARTED);
+                    assertThat(task.getDescription()).isEqualTo("Picked up");
+                });
+    }
+
+    @Test
+    void assignByReference_shouldCancelOpenTasksAndCreateReplacements() {
+        // Arrange
+        long referenceId = 7001L;
+        TaskCreateRequest.RequestItem invoice = createItem(referenceId, Task.CREATE_INVOICE);
+        TaskCreateRequest.RequestItem pickup = createItem(referenceId, Task.ARRANGE_PICKUP);
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(invoice, pickup));
+        List<TaskManagementDto> existing = taskManagementService.createTasks(createRequest);
+        UpdateTaskRequest completePickup = new UpdateTaskRequest();
+        completePickup.setRequests(List.of(updateItem(existing.get(1).getId(), TaskStatus.COMPLETED, null)));
+        taskManagementService.updateTasks(completePickup);
+
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(referenceId);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+        assignRequest.setAssigneeId(42L);
+
+        // Act
+        taskManagementService.assignByReference(assignRequest);
+        taskManagementService.assignByReference(assignRequest);
+
+        // Assert
+        List<TaskManagement> tasks = taskRepository.findByReferenceIdAndReferenceType(referenceId, ReferenceType.ORDER);
+        assertThat(taskRepository.findById(existing.get(0).getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.CANCELLED);
+        assertThat(taskRepository.findById(existing.get(1).getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(tasks).filteredOn(task -> task.getStatus() == TaskStatus.ASSIGNED)
+                .hasSize(Task.getTasksByReferenceType(ReferenceType.ORDER).size())
+                .allMatch(task -> task.getAssigneeId() == 42L);
+        assertThat(referenceAssignmentRepository.findAll())
+                .filteredOn(assignment -> assignment.getReferenceId() == referenceId)
+                .singleElement()
+                .satisfies(assignment -> assertThat(assignment.getVersion()).isGreaterThan(0L));
+    }
+
+    @Test
+    void getTaskDetails_shouldLoadTaskActivitiesAndCommentsInOneStatement() throws Exception {
+        // Arrange
+        Long taskId = createTasks(1).get(0).getId();
+        addComment(taskId, "first");
+        addComment(taskId, "second");
+        activityRecorder.flush();
+        taskSearchIndex.awaitIndexed();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        TaskManagementDto details = taskQueryService.getTaskDetails(taskId);
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(details.getComments()).extracting(TaskCommentDto::getCommentText).containsExactly("first", "second");
+        assertThat(details.getComments()).allMatch(comment -> taskId.equals(comment.getTaskId()));
+        assertThat(details.getActivities()).extracting(TaskActivityDto::getActivityType)
+                .containsExactly(ActivityType.TASK_CREATED, ActivityType.COMMENT_ADDED, ActivityType.COMMENT_ADDED);
+    }
+
+    @Test
+    void writePaths_shouldRecordActivitiesThroughTheRecorder() {
+        // Arrange
+        long referenceId = 7002L;
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(createItem(referenceId, Task.CREATE_INVOICE)));
+        Long taskId = taskManagementService.createTasks(createRequest).get(0).getId();
+        UpdateTaskRequest startTask = new UpdateTaskRequest();
+        startTask.setRequests(List.of(updateItem(taskId, TaskStatus.STARTED, null)));
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(referenceId);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+        assignRequest.setAssigneeId(43L);
+
+        // Act
+        taskManagementService.updateTasks(startTask);
+        taskManagementService.assignByReference(assignRequest);
+        activityRecorder.flush();
+
+        // Assert
+        assertThat(taskQueryService.getTaskDetails(taskId).getActivities())
+                .extracting(TaskActivityDto::getActivityType)
+                .containsExactly(ActivityType.TASK_CREATED, ActivityType.TASK_STATUS_CHANGED, ActivityType.TASK_STATUS_CHANGED);
+        assertThat(taskRepository.findByReferenceIdAndReferenceType(referenceId, ReferenceType.ORDER))
+                .filteredOn(task -> task.getStatus() == TaskStatus.ASSIGNED)
+                .allSatisfy(task -> assertThat(taskQueryService.getTaskDetails(task.getId()).getActivities())
+                        .extracting(TaskActivityDto::getActivityType)
+                        .containsExactly(ActivityType.TASK_REASSIGNED));
+    }
+
+    @Test
+    void findTasksByPriority_shouldNotLoadChildCollections() throws Exception {
+        // Arrange
+        List<TaskManagementDto> created = createTasks(3);
+        created.forEach(task -> addComment(task.getId(), "note"));
+        activityRecorder.flush();
+        taskSearchIndex.awaitIndexed();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        PagedResult<TaskManagementDto> page = taskQueryService.findTasksByPriority("MEDIUM", created.get(0).getId() - 1, 3);
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(page.getData()).hasSize(3).allMatch(task -> task.getActivities() == null && task.getComments() == null);
+    }
+
+    @Test
+    void listReads_shouldSeeWritesThroughTheReadModel_whenBulkUpdatedAndByPriority() {
+        // Arrange
+        List<TaskManagementDto> created = createTasks(4);
+        List<UpdateTaskRequest.RequestItem> items = created.stream()
+                .map(task -> updateItem(task.getId(), TaskStatus.CANCELLED, null))
+                .collect(Collectors.toList());
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setRequests(items);
+        UpdateTaskPriorityRequest priorityRequest = new UpdateTaskPriorityRequest();
+        priorityRequest.setPriority(Priority.LOW);
+
+        // Act
+        taskManagementService.bulkUpdateTasks(request);
+        taskManagementService.updateTaskPriority(created.get(0).getId(), priorityRequest);
+        PagedResult<TaskManagementDto> lowPage = taskQueryService.findTasksByPriority("LOW", created.get(0).getId() - 1, 1);
+
+        // Assert
+        assertThat(lowPage.getData()).singleElement().satisfies(task -> {
+            assertThat(task.getId()).isEqualTo(created.get(0).getId());
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.CANCELLED);
+            assertThat(task.getPriority()).isEqualTo(Priority.LOW);
+        });
+    }
+
+    @Test
+    void serviceAndRepositoryCalls_shouldRecordTimersAndRowCounts() {
+        // Arrange
+        createTasks(3);
+        TaskFetchByDateRequest request = new TaskFetchByDateRequest();
+        request.setAssigneeIds(List.of(7L));
+        request.setStartDate(1_749_000_000_000L);
+        request.setEndDate(1_751_000_000_000L);
+        request.setPageSize(2);
+
+        // Act
+        taskQueryService.fetchTasksByDate(request);
+
+        // Assert
+        assertThat(meterRegistry.get("workforcemgmt.task.service").tag("method", "fetchTasksByDate").timer().count()).isPositive();
+        assertThat(meterRegistry.get("workforcemgmt.task.service").tag("method", "createTasks").timer().count()).isPositive();
+        assertThat(meterRegistry.get("spring.data.repository.invocations").tag("repository", "TaskListViewRepository").timer().count()).isPositive();
+        assertThat(meterRegistry.get("workforcemgmt.task.query.rows").tags("operation", "fetchTasksByDate", "stage", "loaded").summary().max()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("workforcemgmt.task.query.rows").tags("operation", "fetchTasksByDate", "stage", "returned").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void exportTasksByDate_shouldStreamSameRowsAsTheWindowQueryInIdOrder() {
+        // Arrange
+        createTasks(4);
+        TaskFetchByDateRequest request = new TaskFetchByDateRequest();
+        request.setAssigneeIds(List.of(7L));
+        request.setStartDate(1_749_000_000_000L);
+        request.setEndDate(1_751_000_000_000L);
+        List<Long> expected = taskListViewRepository.findActiveByAssigneeIdInAndDeadlineWindowAfter(request.getAssigneeIds(),
+                        request.getStartDate(), request.getEndDate(), 0L, Limit.of(1000)).stream()
+                .map(TaskManagementDto::getId).toList();
+
+        // Act
+        List<Long> exported = new ArrayList<>();
+        long count = taskQueryService.exportTasksByDate(request, task -> exported.add(task.getId()));
+
+        // Assert
+        assertThat(count).isEqualTo(expected.size()).isGreaterThanOrEqualTo(4);
+        assertThat(exported).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void writePaths_shouldKeepAssigneeWorkloadIndexInStep() {
+        // Arrange
+        long assigneeId = 9001L;
+        List<TaskCreateRequest.RequestItem> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TaskCreateRequest.RequestItem item = createItem(7100L + i, Task.CREATE_INVOICE);
+            item.setAssigneeId(assigneeId);
+            item.setPriority(i == 0 ? Priority.LOW : Priority.HIGH);
+            item.setTaskDeadlineTime(1_750_000_000_000L + i);
+            items.add(item);
+        }
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(items);
+        List<TaskManagementDto> created = taskManagementService.createTasks(createRequest);
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setRequests(List.of(
+                updateItem(created.get(0).getId(), TaskStatus.COMPLETED, null),
+                updateItem(created.get(1).getId(), TaskStatus.STARTED, null)));
+
+        // Act
+        AssigneeWorkloadDto afterCreate = workloadIndex.getWorkload(assigneeId);
+        taskManagementService.updateTasks(updateRequest);
+        AssigneeWorkloadDto afterUpdate = workloadIndex.getWorkload(assigneeId);
+        workloadIndex.rebuild();
+        AssigneeWorkloadDto afterRebuild = workloadIndex.getWorkload(assigneeId);
+
+        // Assert
+        assertThat(afterCreate.getOpenTaskCount()).isEqualTo(3);
+        assertThat(afterCreate.getOpenTasksByPriority()).isEqualTo(Map.of(Priority.LOW, 1, Priority.HIGH, 2));
+        assertThat(afterCreate.getNextDeadline()).isEqualTo(1_750_000_000_000L);
+        assertThat(afterUpdate.getOpenTaskCount()).isEqualTo(2);
+        assertThat(afterUpdate.getOpenTasksByStatus()).isEqualTo(Map.of(TaskStatus.ASSIGNED, 1, TaskStatus.STARTED, 1));
+        assertThat(afterUpdate.getOpenTasksByPriority()).isEqualTo(Map.of(Priority.HIGH, 2));
+        assertThat(afterUpdate.getNextDeadline()).isEqualTo(1_750_000_000_001L);
+        assertThat(afterRebuild).isEqualTo(afterUpdate);
+    }
+
+    @Test
+    void workloadIndex_shouldIgnoreASnapshotOlderThanTheOneApplied_whenListenersRunOutOfCommitOrder() {
+        // Arrange
+        long assigneeId = 9002L;
+        TaskCreateRequest.RequestItem item = createItem(7200L, Task.CREATE_INVOICE);
+        item.setAssigneeId(assigneeId);
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(item));
+        TaskManagementDto created = taskManagementService.createTasks(createRequest).get(0);
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setRequests(List.of(updateItem(created.getId(), TaskStatus.COMPLETED, null)));
+        taskManagementService.updateTasks(updateRequest);
+
+        // Act
+        workloadIndex.onTaskChanged(new TaskChangedEvent(List.of(created.getId()), List.of(new TaskSnapshot(created.getId(),
+                assigneeId, TaskStatus.STARTED, Priority.HIGH, null, created.getVersion()))));
+
+        // Assert
+        assertThat(workloadIndex.getWorkload(assigneeId).getOpenTaskCount()).isZero();
+    }
+
+    @Test
+    void overdueTracker_shouldFollowUpdatesAndReassignments() {
+        // Arrange
+        long referenceId = 7200L;
+        TaskCreateRequest.RequestItem invoice = createItem(referenceId, Task.CREATE_INVOICE);
+        invoice.setAssigneeId(9002L);
+        TaskCreateRequest.RequestItem pickup = createItem(referenceId, Task.ARRANGE_PICKUP);
+        pickup.setAssigneeId(9002L);
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(invoice, pickup));
+        List<TaskManagementDto> created = taskManagementService.createTasks(createRequest);
+        UpdateTaskRequest startPickup = new UpdateTaskRequest();
+        startPickup.setRequests(List.of(updateItem(created.get(1).getId(), TaskStatus.STARTED, null)));
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(referenceId);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+        assignRequest.setAssigneeId(9003L);
+
+        // Act
+        overdueTaskTracker.scan();
+        List<OverdueTaskDto> afterCreate = overdueTaskTracker.findOverdue(List.of(9002L));
+        taskManagementService.updateTasks(startPickup);
+        List<OverdueTaskDto> afterStart = overdueTaskTracker.findOverdue(List.of(9002L));
+        taskManagementService.assignByReference(assignRequest);
+        List<OverdueTaskDto> afterReassign = overdueTaskTracker.findOverdue(List.of(9002L));
+
+        // Assert
+        assertThat(afterCreate).extracting(OverdueTaskDto::getTaskId)
+                .containsExactlyInAnyOrder(created.get(0).getId(), created.get(1).getId());
+        assertThat(afterStart).extracting(OverdueTaskDto::getTaskId).containsExactly(created.get(0).getId());
+        assertThat(afterReassign).isEmpty();
+    }
+
+    @Test
+    void assignByReference_shouldPickLeastLoadedCandidate_whenNoAssigneeGiven() {
+        // Arrange
+        List<TaskCreateRequest.RequestItem> items = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TaskCreateRequest.RequestItem item = createItem(7300L + i, Task.CREATE_INVOICE);
+            item.setAssigneeId(9101L);
+            items.add(item);
+        }
+        TaskCreateRequest.RequestItem lowPriority = createItem(7302L, Task.CREATE_INVOICE);
+        lowPriority.setAssigneeId(9102L);
+        lowPriority.setPriority(Priority.LOW);
+        items.add(lowPriority);
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(items);
+        taskManagementService.createTasks(createRequest);
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(7310L);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+        assignRequest.setCandidateAssigneeIds(List.of(9101L, 9102L));
+
+        // Act
+        String message = taskManagementService.assignByReference(assignRequest);
+
+        // Assert
+        assertThat(message).contains("user 9102");
+        assertThat(taskRepository.findByReferenceIdAndReferenceType(7310L, ReferenceType.ORDER))
+                .isNotEmpty()
+                .allMatch(task -> task.getAssigneeId() == 9102L);
+        assertThat(referenceAssignmentRepository.findAll())
+                .filteredOn(assignment -> assignment.getReferenceId() == 7310L)
+                .singleElement()
+                .satisfies(assignment -> assertThat(assignment.getAssigneeId()).isEqualTo(9102L));
+    }
+
+    @Test
+    void assignByReference_shouldSpreadConcurrentAutoAssignmentsAcrossCandidates() throws Exception {
+        // Arrange
+        List<Long> candidates = List.of(9201L, 9202L, 9203L, 9204L);
+        int assignments = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < assignments; i++) {
+            AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+            assignRequest.setReferenceId(7400L + i);
+            assignRequest.setReferenceType(ReferenceType.ORDER);
+            assignRequest.setCandidateAssigneeIds(candidates);
+            results.add(executor.submit(() -> taskManagementService.assignByReference(assignRequest)));
+        }
+        for (Future<String> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        int tasksPerAssignment = Task.getTasksByReferenceType(ReferenceType.ORDER).size();
+        Map<Long, Long> openTasksByAssignee = taskRepository.findByAssigneeIdIn(candidates).stream()
+                .collect(Collectors.groupingBy(TaskManagement::getAssigneeId, Collectors.counting()));
+        assertThat(openTasksByAssignee).containsOnlyKeys(candidates);
+        // Between commit and reservation release an assignment briefly counts twice, so allow one assignment of slack
+        long fairShare = (long) assignments / candidates.size() * tasksPerAssignment;
+        assertThat(openTasksByAssignee.values())
+                .allSatisfy(count -> assertThat(count).isBetween(fairShare - tasksPerAssignment, fairShare + tasksPerAssignment));
+    }
+
+    @Test
+    void assignByReference_shouldReject_whenNeitherAssigneeNorCandidatesGiven() {
+        // Arrange
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(7500L);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskManagementService.assignByReference(assignRequest))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(taskRepository.findByReferenceIdAndReferenceType(7500L, ReferenceType.ORDER)).isEmpty();
+    }
+
+    @Test
+    void findTaskById_shouldServeRepeatedReadsFromCacheUntilTaskChanges() throws Exception {
+        // Arrange
+        Long taskId = createTasks(1).get(0).getId();
+        // The activity writer and search indexer run in the background; let them finish so only our statements are counted
+        activityRecorder.flush();
+        taskSearchIndex.awaitIndexed();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        taskQueryService.findTaskById(taskId);
+        taskQueryService.findTaskById(taskId);
+        long statementsForTwoReads = statistics.getPrepareStatementCount();
+        UpdateTaskPriorityRequest priorityRequest = new UpdateTaskPriorityRequest();
+        priorityRequest.setPriority(Priority.HIGH);
+        taskManagementService.updateTaskPriority(taskId, priorityRequest);
+        TaskManagementDto afterUpdate = taskQueryService.findTaskById(taskId);
+
+        // Assert
+        assertThat(statementsForTwoReads).isEqualTo(1);
+        assertThat(afterUpdate.getPriority()).isEqualTo(Priority.HIGH);
+    }
+
+    @Test
+    void findTaskById_shouldReturnActivitiesAndComments() {
+        // Arrange
+        Long taskId = createTasks(1).get(0).getId();
+        taskQueryService.findTaskById(taskId);
+        addComment(taskId, "by id");
+        activityRecorder.flush();
+
+        // Act
+        TaskManagementDto task = taskQueryService.findTaskById(taskId);
+
+        // Assert
+        assertThat(task.getComments()).extracting(TaskCommentDto::getCommentText).containsExactly("by id");
+        assertThat(task.getActivities()).extracting(TaskActivityDto::getActivityType)
+                .containsExactly(ActivityType.TASK_CREATED, ActivityType.COMMENT_ADDED);
+    }
+
+    @Test
+    void getTaskDetails_shouldReflectCommentsAddedAfterItWasCached() {
+        // Arrange
+        Long taskId = createTasks(1).get(0).getId();
+        taskQueryService.getTaskDetails(taskId);
+
+        // Act
+        TaskManagementDto commented = addComment(taskId, "after cache");
+        TaskManagementDto details = taskQueryService.getTaskDetails(taskId);
+
+        // Assert
+        assertThat(commented.getComments()).extracting(TaskCommentDto::getCommentText).containsExactly("after cache");
+        assertThat(details.getComments()).extracting(TaskCommentDto::getCommentText).containsExactly("after cache");
+    }
+
+    @Test
+    void addCommentToTask_shouldRecordActivities_whenUserIdIsMissing() {
+        // Arrange
+        Long taskId = createTasks(1).get(0).getId();
+        AddCommentRequest request = new AddCommentRequest();
+        request.setCommentText("anonymous note");
+
+        // Act
+        taskManagementService.addCommentToTask(taskId, request);
+        activityRecorder.flush();
+
+        // Assert
+        assertThat(taskQueryService.getTaskDetails(taskId).getActivities())
+                .extracting(TaskActivityDto::getActivityType, TaskActivityDto::getUserId)
+                .containsExactly(tuple(ActivityType.TASK_CREATED, 1L), tuple(ActivityType.COMMENT_ADDED, null));
+    }
+
+    @Test
+    void ingestTasks_shouldSkipSeenKeysAndMergeSameReferenceItems() {
+        // Arrange
+        TaskIngestRequest first = ingestRequest(
+                ingestItem("order-9001-invoice-a", 9001L, Task.CREATE_INVOICE, Priority.LOW),
+                ingestItem("order-9001-invoice-a", 9001L, Task.CREATE_INVOICE, Priority.LOW),
+                ingestItem("order-9001-invoice-b", 9001L, Task.CREATE_INVOICE, Priority.HIGH),
+                ingestItem("order-9001-pickup", 9001L, Task.ARRANGE_PICKUP, Priority.MEDIUM));
+        TaskIngestRequest retry = ingestRequest(
+                ingestItem("order-9001-invoice-b", 9001L, Task.CREATE_INVOICE, Priority.HIGH),
+                ingestItem("order-9001-pickup", 9001L, Task.ARRANGE_PICKUP, Priority.MEDIUM),
+                ingestItem("order-9001-payment", 9001L, Task.COLLECT_PAYMENT, Priority.MEDIUM));
+
+        // Act
+        TaskIngestResultDto firstResult = taskManagementService.ingestTasks(first);
+        TaskIngestResultDto retryResult = taskManagementService.ingestTasks(retry);
+
+        // Assert
+        assertThat(firstResult.getCreated()).isEqualTo(2);
+        assertThat(firstResult.getDuplicates()).isEqualTo(1);
+        assertThat(firstResult.getMerged()).isEqualTo(1);
+        assertThat(firstResult.getTasks()).extracting(TaskManagementDto::getTask, TaskManagementDto::getPriority)
+                .containsExactly(tuple(Task.CREATE_INVOICE, Priority.HIGH), tuple(Task.ARRANGE_PICKUP, Priority.MEDIUM));
+        assertThat(retryResult.getCreated()).isEqualTo(1);
+        assertThat(retryResult.getDuplicates()).isEqualTo(2);
+        assertThat(retryResult.getMerged()).isZero();
+        assertThat(firstResult.getDuplicateTaskIds()).containsExactly(entry("order-9001-invoice-a", firstResult.getTasks().get(0).getId()));
+        assertThat(retryResult.getDuplicateTaskIds()).containsOnly(
+                entry("order-9001-invoice-b", firstResult.getTasks().get(0).getId()),
+                entry("order-9001-pickup", firstResult.getTasks().get(1).getId()));
+        assertThat(taskRepository.findByReferenceIdAndReferenceType(9001L, ReferenceType.ORDER)).hasSize(3);
+    }
+
+    @Test
+    void ingestTasks_shouldRejectInvalidKeys_andTreatOnlyKeyCollisionsAsConflicts() {
+        // Arrange
+        TaskIdempotencyKey stored = new TaskIdempotencyKey();
+        stored.setIdempotencyKey("order-9002-invoice");
+        stored.setTaskId(-1L);
+        stored.setCreatedAt(System.currentTimeMillis());
+        // Written behind the filter's back, as a concurrent request on another node would
+        idempotencyKeyRepository.saveAndFlush(stored);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskManagementService.ingestTasks(ingestRequest(
+                ingestItem("k".repeat(TaskIdempotencyKey.MAX_KEY_LENGTH + 1), 9002L, Task.CREATE_INVOICE, Priority.LOW))))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> taskManagementService.ingestTasks(ingestRequest(
+                ingestItem(" ", 9002L, Task.CREATE_INVOICE, Priority.LOW))))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> taskManagementService.ingestTasks(ingestRequest(
+                ingestItem("order-9002-invoice", 9002L, Task.CREATE_INVOICE, Priority.LOW))))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(taskRepository.findByReferenceIdAndReferenceType(9002L, ReferenceType.ORDER)).isEmpty();
+    }
+
+    @Test
+    void searchTasks_shouldMatchDescriptionsAndCommentsWithFacetCounts() throws Exception {
+        // Arrange
+        List<TaskManagementDto> created = createTasks(3);
+        UpdateTaskRequest update = new UpdateTaskRequest();
+        update.setRequests(List.of(
+                updateItem(created.get(0).getId(), TaskStatus.STARTED, "Forklift battery swap"),
+                updateItem(created.get(1).getId(), null, "Forklift inspection")));
+        taskManagementService.updateTasks(update);
+        addComment(created.get(2).getId(), "Pallet damaged on arrival");
+        activityRecorder.flush();
+        taskSearchIndex.awaitIndexed();
+
+        // Act
+        TaskSearchResultDto forklift = taskQueryService.searchTasks("forklift", null, null, null, null);
+        TaskSearchResultDto startedForklift = taskQueryService.searchTasks("forklift", TaskStatus.STARTED, null, null, null);
+        TaskSearchResultDto pallet = taskQueryService.searchTasks("comment:pallet", null, null, null, null);
+
+        // Assert
+        assertThat(forklift.getTotalHits()).isEqualTo(2);
+        assertThat(forklift.getFacets().get(TaskSearchIndex.STATUS)).containsEntry("STARTED", 1L).containsEntry("ASSIGNED", 1L);
+        assertThat(startedForklift.getTasks()).extracting(TaskManagementDto::getId).containsExactly(created.get(0).getId());
+        assertThat(startedForklift.getTasks()).extracting(TaskManagementDto::getDescription).containsExactly("Forklift battery swap");
+        assertThat(pallet.getTasks()).extracting(TaskManagementDto::getId).containsExactly(created.get(2).getId());
+        assertThatThrownBy(() -> taskQueryService.searchTasks("forklift AND (", null, null, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void aggregateTasks_shouldGroupInSqlAndRecount_whenTasksChange() {
+        // Arrange
+        long day = 86_400_000L;
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setRequests(List.of(
+                aggregateItem(Task.CREATE_INVOICE, Priority.HIGH, 20 * day),
+                aggregateItem(Task.CREATE_INVOICE, Priority.LOW, 20 * day + 5),
+                aggregateItem(Task.ARRANGE_PICKUP, Priority.HIGH, 21 * day)));
+        List<TaskManagementDto> created = taskManagementService.createTasks(request);
+        TaskAggregationRequest aggregation = new TaskAggregationRequest();
+        aggregation.setGroupBy(List.of(TaskDimension.STATUS, TaskDimension.PRIORITY));
+        aggregation.setAssigneeIds(List.of(8801L));
+        aggregation.setDeadlineBucketMs(day);
+
+        // Act
+        TaskAggregationDto before = taskQueryService.aggregateTasks(aggregation);
+        UpdateTaskRequest complete = new UpdateTaskRequest();
+        complete.setRequests(List.of(updateItem(created.get(0).getId(), TaskStatus.COMPLETED, null)));
+        taskManagementService.updateTasks(complete);
+        TaskAggregationDto after = taskQueryService.aggregateTasks(aggregation);
+
+        // Assert
+        assertThat(before.getTotal()).isEqualTo(3);
+        assertThat(before.getGroups()).extracting(TaskGroupCountDto::getKey, TaskGroupCountDto::getCount).containsExactly(
+                tuple(Map.of("status", TaskStatus.ASSIGNED, "priority", Priority.HIGH), 2L),
+                tuple(Map.of("status", TaskStatus.ASSIGNED, "priority", Priority.LOW), 1L));
+        assertThat(before.getDeadlineHistogram()).extracting(DeadlineBucketDto::getBucketStart, DeadlineBucketDto::getCount)
+                .containsExactly(tuple(20 * day, 2L), tuple(21 * day, 1L));
+        assertThat(after.getGroups()).extracting(TaskGroupCountDto::getKey, TaskGroupCountDto::getCount).containsExactly(
+                tuple(Map.of("status", TaskStatus.ASSIGNED, "priority", Priority.HIGH), 1L),
+                tuple(Map.of("status", TaskStatus.ASSIGNED, "priority", Priority.LOW), 1L),
+                tuple(Map.of("status", TaskStatus.COMPLETED, "priority", Priority.HIGH), 1L));
+    }
+
+    @Test
+    void assignByReference_shouldRelayEveryChangedTaskThroughTheOutboxInOrder() {
+        // Arrange
+        long referenceId = 9301L;
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(createItem(referenceId, Task.CREATE_INVOICE)));
+        Long invoiceId = taskManagementService.createTasks(createRequest).get(0).getId();
+        AssignByReferenceRequest assignRequest = new AssignByReferenceRequest();
+        assignRequest.setReferenceId(referenceId);
+        assignRequest.setReferenceType(ReferenceType.ORDER);
+        assignRequest.setAssigneeId(42L);
+
+        // Act
+        taskManagementService.assignByReference(assignRequest);
+        taskOutboxRelay.relay();
+
+        // Assert
+        List<TaskOutboxMessage> messages = outboxPublisher.getPublished().stream()
+                .filter(message -> message.referenceId() == referenceId)
+                .collect(Collectors.toList());
+        assertThat(messages).extracting(TaskOutboxMessage::taskId, TaskOutboxMessage::status, TaskOutboxMessage::assigneeId)
+                .startsWith(tuple(invoiceId, TaskStatus.ASSIGNED, 8L), tuple(invoiceId, TaskStatus.CANCELLED, 8L));
+        assertThat(messages).filteredOn(message -> message.status() == TaskStatus.ASSIGNED && message.assigneeId() == 42L)
+                .hasSize(Task.getTasksByReferenceType(ReferenceType.ORDER).size());
+        assertThat(messages).extracting(TaskOutboxMessage::eventId).isSorted();
+        assertThat(taskOutboxRelay.getPending()).isZero();
+    }
+
+    @Test
+    void archiveClosedBefore_shouldMoveClosedTasksWithChildren_andReadThemOnlyWhenAsked() {
+        // Arrange
+        TaskCreateRequest.RequestItem item = createItem(9401L, Task.CREATE_INVOICE);
+        item.setAssigneeId(9401L);
+        TaskCreateRequest createRequest = new TaskCreateRequest();
+        createRequest.setRequests(List.of(item, createItem(9401L, Task.ARRANGE_PICKUP)));
+        List<TaskManagementDto> created = taskManagementService.createTasks(createRequest);
+        Long closedId = created.get(0).getId();
+        Long openId = created.get(1).getId();
+        addComment(closedId, "archived note");
+        UpdateTaskRequest complete = new UpdateTaskRequest();
+        complete.setRequests(List.of(updateItem(closedId, TaskStatus.COMPLETED, null)));
+        taskManagementService.updateTasks(complete);
+        activityRecorder.flush();
+        TaskFetchByDateRequest window = new TaskFetchByDateRequest();
+        window.setAssigneeIds(List.of(9401L));
+        window.setStartDate(1_700_000_000_000L);
+        window.setEndDate(1_800_000_000_000L);
+
+        // Act
+        int archived = taskArchiver.archiveClosedBefore(System.currentTimeMillis() + 1);
+
+        // Assert
+        assertThat(archived).isPositive();
+        assertThat(taskRepository.findById(closedId)).isEmpty();
+        assertThat(taskRepository.findById(openId)).isPresent();
+        TaskManagementDto details = taskQueryService.getArchivedTaskDetails(closedId);
+        assertThat(details.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(details.getComments()).extracting(TaskCommentDto::getCommentText).containsExactly("archived note");
+        assertThat(details.getActivities()).extracting(TaskActivityDto::getActivityType)
+                .containsExactly(ActivityType.TASK_CREATED, ActivityType.COMMENT_ADDED, ActivityType.TASK_STATUS_CHANGED);
+        assertThat(taskQueryService.fetchTasksByDate(window).getData()).isEmpty();
+        window.setIncludeArchived(true);
+        assertThat(taskQueryService.fetchTasksByDate(window).getData()).extracting(TaskManagementDto::getId).containsExactly(closedId);
+        List<Long> exported = new ArrayList<>();
+        taskQueryService.exportTasksByDate(window, task -> exported.add(task.getId()));
+        assertThat(exported).containsExactly(closedId);
+        assertThatThrownBy(() -> taskQueryService.getArchivedTaskDetails(openId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void updateTaskPriority_shouldRejectStaleExpectedVersion_andReturnTheNewVersion() {
+        // Arrange
+        TaskManagementDto created = createTasks(1).get(0);
+        UpdateTaskPriorityRequest request = new UpdateTaskPriorityRequest();
+        request.setPriority(Priority.HIGH);
+        request.setExpectedVersion(created.getVersion());
+        double rejectedBefore = meterRegistry.get("workforcemgmt.task.version.conflicts")
+                .tags("operation", "updateTaskPriority", "resolution", "rejected").counter().count();
+
+        // Act
+        TaskManagementDto updated = taskManagementService.updateTaskPriority(created.getId(), request);
+        request.setPriority(Priority.LOW);
+
+        // Assert
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThatThrownBy(() -> taskManagementService.updateTaskPriority(created.getId(), request))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .hasMessageContaining("expected " + created.getVersion());
+        assertThat(taskRepository.findById(created.getId()).orElseThrow().getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(taskQueryService.findTaskById(created.getId()).getVersion()).isEqualTo(updated.getVersion());
+        assertThat(meterRegistry.get("workforcemgmt.task.version.conflicts")
+                .tags("operation", "updateTaskPriority", "resolution", "rejected").counter().count()).isEqualTo(rejectedBefore + 1);
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldNotLoseConcurrentWrites_andRejectStaleExpectedVersions() throws Exception {
+        // Arrange
+        List<TaskManagementDto> created = createTasks(20);
+        UpdateTaskRequest starts = new UpdateTaskRequest();
+        starts.setRequests(created.stream().map(task -> updateItem(task.getId(), TaskStatus.STARTED, null)).collect(Collectors.toList()));
+        UpdateTaskRequest notes = new UpdateTaskRequest();
+        notes.setRequests(created.stream().map(task -> updateItem(task.getId(), null, "Noted")).collect(Collectors.toList()));
+        UpdateTaskRequest.RequestItem stale = updateItem(created.get(0).getId(), TaskStatus.COMPLETED, null);
+        stale.setExpectedVersion(created.get(0).getVersion());
+        UpdateTaskRequest staleRequest = new UpdateTaskRequest();
+        staleRequest.setRequests(List.of(stale));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        List<Future<List<TaskUpdateResultDto>>> futures = List.of(
+                executor.submit(() -> taskManagementService.bulkUpdateTasks(starts)),
+                executor.submit(() -> taskManagementService.bulkUpdateTasks(notes)));
+        List<TaskUpdateResultDto> results = new ArrayList<>();
+        for (Future<List<TaskUpdateResultDto>> future : futures) {
+            results.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        List<TaskUpdateResultDto> staleResults = taskManagementService.bulkUpdateTasks(staleRequest);
+
+        // Assert
+        assertThat(results).extracting(TaskUpdateResultDto::getOutcome).containsOnly(TaskUpdateResultDto.Outcome.UPDATED);
+        for (TaskManagementDto task : created) {
+            assertThat(taskRepository.findById(task.getId()).orElseThrow()).satisfies(updated -> {
+                assertThat(updated.getStatus()).isEqualTo(TaskStatus.STARTED);
+                assertThat(updated.getDescription()).isEqualTo("Noted");
+                assertThat(updated.getVersion()).isEqualTo(task.getVersion() + 2);
+            });
+        }
+        assertThat(staleResults).singleElement().satisfies(result -> {
+            assertThat(result.getOutcome()).isEqualTo(TaskUpdateResultDto.Outcome.CONFLICT);
+            assertThat(result.getTask()).isNull();
+        });
+        assertThat(taskRepository.findById(created.get(0).getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.STARTED);
+    }
+
+    private TaskManagementDto addComment(Long taskId, String text) {
+        AddCommentRequest request = new AddCommentRequest();
+        request.setCommentText(text);
+        request.setUserId(3L);
+        return taskManagementService.addCommentToTask(taskId, request);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private List<TaskManagementDto> createTasks(int count) {
+        List<TaskCreateRequest.RequestItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskCreateRequest.RequestItem item = new TaskCreateRequest.RequestItem();
+            item.setReferenceId(5000L + i);
+            item.setReferenceType(ReferenceType.ORDER);
+            item.setTask(Task.ARRANGE_PICKUP);
+            item.setAssigneeId(7L);
+            item.setPriority(Priority.MEDIUM);
+            item.setTaskDeadlineTime(1_750_000_000_000L);
+            items.add(item);
+        }
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setRequests(items);
+        return taskManagementService.createTasks(request);
+    }
+
+    private static TaskCreateRequest.RequestItem createItem(Long referenceId, Task task) {
+        TaskCreateRequest.RequestItem item = new TaskCreateRequest.RequestItem();
+        item.setReferenceId(referenceId);
+        item.setReferenceType(ReferenceType.ORDER);
+        item.setTask(task);
+        item.setAssigneeId(8L);
+        item.setPriority(Priority.HIGH);
+        item.setTaskDeadlineTime(1_750_000_000_000L);
+        return item;
+    }
+
+    private static TaskCreateRequest.RequestItem aggregateItem(Task task, Priority priority, long deadline) {
+        TaskCreateRequest.RequestItem item = createItem(8801L, task);
+        item.setAssigneeId(8801L);
+        item.setPriority(priority);
+        item.setTaskDeadlineTime(deadline);
+        return item;
+    }
+
+    private static TaskIngestRequest ingestRequest(TaskIngestRequest.RequestItem... items) {
+        TaskIngestRequest request = new TaskIngestRequest();
+        request.setRequests(List.of(items));
+        return request;
+    }
+
+    private static TaskIngestRequest.RequestItem ingestItem(String idempotencyKey, Long referenceId, Task task, Priority priority) {
+        TaskIngestRequest.RequestItem item = new TaskIngestRequest.RequestItem();
+        item.setIdempotencyKey(idempotencyKey);
+        item.setReferenceId(referenceId);
+        item.setReferenceType(ReferenceType.ORDER);
+        item.setTask(task);
+        item.setAssigneeId(9L);
+        item.setPriority(priority);
+        item.setTaskDeadlineTime(1_750_000_000_000L);
+        return item;
+    }
+
+    private static UpdateTaskRequest.RequestItem updateItem(Long taskId, TaskStatus status, String description) {
+        UpdateTaskRequest.RequestItem item = new UpdateTaskRequest.RequestItem();
+        item.setTaskId(taskId);
+        item.setTaskStatus(status);
+        item.setDescription(description);
+        return item;
+    }
+}